@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+# 실행 모드별 time-to-first-order 측정
+# 프로세스 시작부터 POST /api/orders/lua 가 처음 200을 반환할 때까지의 시간(ms)을 출력한다.
+#
+# 사전 준비
+#   - 로컬 Redis (localhost:6379)
+#   - 로컬 SQS 호환 서버 ElasticMQ (localhost:9324) 와 FIFO 큐 yumi-stock-benchmark.fifo
+#       docker run -d -p 9324:9324 softwaremill/elasticmq-native
+#       aws --endpoint-url http://localhost:9324 --region ap-northeast-2 sqs create-queue \
+#         --queue-name yumi-stock-benchmark.fifo --attributes FifoQueue=true,ContentBasedDeduplication=true
+#     (endpoint, 자격 증명, 큐 이름은 application-benchmark.yml 에 설정되어 있음.
+#      SQS 없이 기동하면 SqsAsyncClient 생성이나 @SqsListener 큐 조회에서 실패)
+#   - ./gradlew bootJar appCdsArchive        (jvm, aot, aot-cds 모드, appCdsArchive 학습 실행에도 위 Redis/SQS 필요)
+#   - ./gradlew nativeCompile                (native 모드, GraalVM 필요)
+#
+# 사용법: scripts/startup-benchmark.sh [jvm|aot|aot-cds|native ...]   (기본: 전체)
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+PORT="${PORT:-8080}"
+RUNS="${RUNS:-3}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-60}"
+BOOT_JAR="$(ls "$ROOT_DIR"/build/libs/*.jar 2>/dev/null | grep -v plain | head -n 1 || true)"
+APPCDS_DIR="$ROOT_DIR/build/appcds"
+NATIVE_BIN="$ROOT_DIR/build/native/nativeCompile/yumi"
+APP_ARGS=(--spring.profiles.active=benchmark --server.port="$PORT")
+SQS_ENDPOINT="${SQS_ENDPOINT:-http://localhost:9324}"
+
+command_for() {
+  case "$1" in
+    jvm)     echo "java -jar $BOOT_JAR" ;;
+    aot)     echo "java -Dspring.aot.enabled=true -jar $BOOT_JAR" ;;
+    aot-cds) echo "java -XX:SharedArchiveFile=$APPCDS_DIR/application.jsa -Dspring.aot.enabled=true -jar $APPCDS_DIR/$(basename "$BOOT_JAR")" ;;
+    native)  echo "$NATIVE_BIN" ;;
+    *) echo "unknown mode: $1" >&2; exit 1 ;;
+  esac
+}
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  local mode="$1"
+  local started_at
+  started_at=$(now_ms)
+
+  # shellcheck disable=SC2046
+  $(command_for "$mode") "${APP_ARGS[@]}" > "$ROOT_DIR/build/startup-$mode.log" 2>&1 &
+  local pid=$!
+
+  local deadline=$((started_at + TIMEOUT_SECONDS * 1000))
+  local elapsed=-1
+  while [ "$(now_ms)" -lt "$deadline" ]; do
+    status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/orders/lua" \
+      -H 'Content-Type: application/json' \
+      -d '{"memberNo": 1, "productNo": 1, "orderQuantity": 1}' || true)
+    if [ "$status" = "200" ]; then
+      elapsed=$(( $(now_ms) - started_at ))
+      break
+    fi
+    sleep 0.02
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed"
+}
+
+modes=("$@")
+if [ ${#modes[@]} -eq 0 ]; then
+  modes=(jvm aot aot-cds native)
+fi
+
+# command_for는 $(...) 서브셸에서 실행되어 exit가 스크립트를 멈추지 못하므로 측정 전에 모드를 검증
+for mode in "${modes[@]}"; do
+  case "$mode" in
+    jvm|aot|aot-cds|native) ;;
+    *) echo "unknown mode: $mode (jvm|aot|aot-cds|native)" >&2; exit 1 ;;
+  esac
+done
+
+if ! curl -s -o /dev/null "$SQS_ENDPOINT"; then
+  echo "SQS endpoint($SQS_ENDPOINT)에 연결할 수 없습니다. 스크립트 상단의 사전 준비를 확인하세요." >&2
+  exit 1
+fi
+
+printf '%-8s %s\n' "mode" "time-to-first-order(ms)"
+for mode in "${modes[@]}"; do
+  results=()
+  for _ in $(seq 1 "$RUNS"); do
+    results+=("$(measure "$mode")")
+  done
+  printf '%-8s %s\n' "$mode" "${results[*]}"
+done
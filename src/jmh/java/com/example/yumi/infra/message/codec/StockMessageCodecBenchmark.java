@@ -0,0 +1,93 @@
+package com.example.yumi.infra.message.codec;
+
+import com.example.yumi.domains.order.dto.StockReduceRequest;
+import com.example.yumi.infra.message.dto.SqsMessageEnvelope;
+import io.awspring.cloud.sqs.support.converter.SqsMessagingMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 차감 메시지 변환 비교 (SQS 메시지 <-> Spring Message 변환 포함)
+ * - default: 기존 방식, SqsTemplate/리스너 기본 SqsMessagingMessageConverter
+ *   (Jackson 페이로드 변환 + 헤더 매핑 + JavaType 헤더로 페이로드 타입 추론)
+ * - compact: 현재 codec 경로, 프로듀서는 CompactStockReduceRequestCodec으로 인코딩한 문자열을 변환기로 전송하고,
+ *   리스너는 문자열 본문을 그대로 받아(SqsConfig와 같은 payloadTypeMapper) MessageCodecRegistry로 디코딩
+ * 메시지 본문 크기는 Setup 시점에 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StockMessageCodecBenchmark {
+
+    private final SqsMessagingMessageConverter defaultConverter = new SqsMessagingMessageConverter();
+    private final SqsMessagingMessageConverter listenerConverter = new SqsMessagingMessageConverter();
+    private final CompactStockReduceRequestCodec compactCodec = new CompactStockReduceRequestCodec();
+    private final MessageCodecRegistry messageCodecRegistry = new MessageCodecRegistry(List.of(compactCodec), true);
+
+    private StockReduceRequest request;
+    private String producedAt;
+    private software.amazon.awssdk.services.sqs.model.Message defaultSqsMessage;
+    private software.amazon.awssdk.services.sqs.model.Message compactSqsMessage;
+
+    @Setup
+    public void setUp() {
+        listenerConverter.setPayloadTypeMapper(message -> null);
+
+        request = new StockReduceRequest(123456789L, 1001L, 3);
+        producedAt = String.valueOf(System.currentTimeMillis());
+        defaultSqsMessage = received(encodeDefault());
+        compactSqsMessage = received(encodeCompact());
+
+        System.out.printf("%nmessage body size (bytes) default=%d compact=%d%n",
+                defaultSqsMessage.body().getBytes(StandardCharsets.UTF_8).length,
+                compactSqsMessage.body().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.sqs.model.Message encodeDefault() {
+        Message<StockReduceRequest> message = MessageBuilder.withPayload(request)
+                .setHeader(SqsMessageEnvelope.PRODUCED_AT_HEADER, producedAt)
+                .build();
+        return defaultConverter.fromMessagingMessage(message);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.sqs.model.Message encodeCompact() {
+        Message<String> message = MessageBuilder.withPayload(compactCodec.encode(request))
+                .setHeader(SqsMessageEnvelope.PRODUCED_AT_HEADER, producedAt)
+                .setHeader(MessageCodecRegistry.VERSION_HEADER, compactCodec.version())
+                .build();
+        return defaultConverter.fromMessagingMessage(message);
+    }
+
+    @Benchmark
+    public StockReduceRequest decodeDefault() {
+        return (StockReduceRequest) defaultConverter.toMessagingMessage(defaultSqsMessage).getPayload();
+    }
+
+    @Benchmark
+    public StockReduceRequest decodeCompact() {
+        Message<?> message = listenerConverter.toMessagingMessage(compactSqsMessage);
+        return messageCodecRegistry.decode((String) message.getPayload(), message.getHeaders(), StockReduceRequest.class);
+    }
+
+    // 수신한 메시지처럼 messageId, receiptHandle 채움
+    private software.amazon.awssdk.services.sqs.model.Message received(software.amazon.awssdk.services.sqs.model.Message sent) {
+        return sent.toBuilder()
+                .messageId(UUID.randomUUID().toString())
+                .receiptHandle(UUID.randomUUID().toString())
+                .build();
+    }
+}
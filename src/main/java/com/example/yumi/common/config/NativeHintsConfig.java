@@ -0,0 +1,45 @@
+package com.example.yumi.common.config;
+
+import com.example.yumi.domains.order.dto.OrderRequest;
+import com.example.yumi.domains.order.dto.StockReduceRequest;
+import com.example.yumi.domains.order.entity.Order;
+import com.example.yumi.domains.order.entity.Stock;
+import com.example.yumi.infra.message.dto.SqsMessageEnvelope;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * AOT / 네이티브 이미지용 런타임 힌트
+ * 컨트롤러 요청/응답 타입은 Spring AOT가 자동 등록하므로,
+ * 그 외 리플렉션/리소스 접근(SQS 페이로드 Jackson 변환, JPA 엔티티, Lua 스크립트)만 등록한다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.YumiRuntimeHints.class)
+@RegisterReflectionForBinding({StockReduceRequest.class, OrderRequest.class, SqsMessageEnvelope.class})
+public class NativeHintsConfig {
+
+    static class YumiRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // LuaType에서 ClassPathResource로 읽는 스크립트
+            hints.resources().registerPattern("lua/*.lua");
+            // 기동 벤치마크 프로파일의 초기 데이터
+            hints.resources().registerPattern("db/*.sql");
+
+            // Hibernate가 리플렉션으로 생성/접근하는 엔티티
+            hints.reflection().registerType(Order.class, MemberCategory.values());
+            hints.reflection().registerType(Stock.class, MemberCategory.values());
+
+            // 축약 키 codec이 Jackson mixin으로 읽는 필드 어노테이션
+            hints.reflection().registerType(
+                    TypeReference.of("com.example.yumi.infra.message.codec.CompactStockReduceRequestCodec$CompactMixin"),
+                    MemberCategory.DECLARED_FIELDS);
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.yumi.common.config;
 
+import com.example.yumi.infra.message.application.concurrency.AdaptiveConcurrencyLimiter;
+import com.example.yumi.infra.message.application.concurrency.AdaptiveSqsListenerContainerFactory;
+import com.example.yumi.infra.message.application.interceptor.ConcurrencyLimitInterceptor;
 import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.awspring.cloud.sqs.support.converter.SqsMessagingMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
 
+import java.net.URI;
 import java.time.Duration;
 
 @Configuration
@@ -21,13 +28,21 @@ public class SqsConfig {
     private String secretKey;
     @Value("${spring.cloud.aws.region.static}")
     private String region;
+    @Value("${spring.cloud.aws.sqs.endpoint:}")
+    private String endpoint;
+    @Value("${spring.cloud.aws.sqs.stock-queue.adaptive.max-limit:50}")
+    private int maxConcurrentMessages;
 
     @Bean
     public SqsAsyncClient sqsAsyncClient() {
-        return SqsAsyncClient.builder()
+        SqsAsyncClientBuilder builder = SqsAsyncClient.builder()
                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
-                .region(Region.of(region))
-                .build();
+                .region(Region.of(region));
+        // 로컬 SQS 호환 서버(ElasticMQ, LocalStack) 사용 시 endpoint 지정
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 
     @Bean
@@ -36,19 +51,31 @@ public class SqsConfig {
     }
 
     // 리스너 설정
+    // 컨테이너 옵션은 시작 후 변경할 수 없으므로 스레드 풀은 상한값으로 두고,
+    // 실제 수신/동시 처리 수는 AdaptiveBackPressureHandler가 AdaptiveConcurrencyLimiter의 limit에 맞춰 런타임에 조정
     @Bean
-    public SqsMessageListenerContainerFactory<Object> defaultSqsListenerContainerFactory() {
-        return SqsMessageListenerContainerFactory
-                .builder()
-                .configure(sqsContainerOptionsBuilder ->
-                        sqsContainerOptionsBuilder
-                                .maxConcurrentMessages(10) // 컨테이너의 스레드 풀 크기
-                                .maxMessagesPerPoll(10) // 한 번의 폴링 요청으로 수신할 수 있는 최대 메시지 수를 지정
-                                .acknowledgementInterval(Duration.ofSeconds(5)) // AWS SQS 응답 간격
-                                .acknowledgementThreshold(10) // AWS SQS 응답 최소 개수
-                )
-                .sqsAsyncClient(sqsAsyncClient())
-                .build();
+    public SqsMessageListenerContainerFactory<Object> defaultSqsListenerContainerFactory(AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+                                                                                        ConcurrencyLimitInterceptor concurrencyLimitInterceptor) {
+        AdaptiveSqsListenerContainerFactory factory = new AdaptiveSqsListenerContainerFactory(sqsAsyncClient(), adaptiveConcurrencyLimiter);
+        factory.configure(sqsContainerOptionsBuilder ->
+                sqsContainerOptionsBuilder
+                        .maxConcurrentMessages(maxConcurrentMessages) // 컨테이너의 스레드 풀 크기 (동시 처리 수 상한)
+                        .maxMessagesPerPoll(Math.min(10, maxConcurrentMessages)) // 한 번의 폴링 요청으로 수신할 수 있는 최대 메시지 수 (SQS 최대 10, 실제로는 limit의 남은 슬롯만큼)
+                        .acknowledgementInterval(Duration.ofSeconds(5)) // AWS SQS 응답 간격
+                        .acknowledgementThreshold(10) // AWS SQS 응답 최소 개수
+                        .messageConverter(listenerMessageConverter())
+        );
+        factory.addMessageInterceptor(concurrencyLimitInterceptor);
+        return factory;
+    }
+
+    // 리스너 메시지 변환
+    // JavaType 헤더로 페이로드 타입을 추론하지 않고 본문 문자열을 그대로 전달하여,
+    // 리스너에서 CodecVersion 헤더에 맞는 codec(MessageCodecRegistry)으로 디코딩
+    private SqsMessagingMessageConverter listenerMessageConverter() {
+        SqsMessagingMessageConverter converter = new SqsMessagingMessageConverter();
+        converter.setPayloadTypeMapper(message -> null);
+        return converter;
     }
 
 }
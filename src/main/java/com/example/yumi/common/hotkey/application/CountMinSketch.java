@@ -0,0 +1,63 @@
+package com.example.yumi.common.hotkey.application;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * lock-free Count-Min Sketch
+ * depth개의 해시 행마다 카운터를 원자적으로 증가시키고, 추정치는 행별 카운터의 최솟값을 사용한다.
+ * (실제 빈도보다 작게 추정하지 않으며, 해시 충돌만큼 크게 추정될 수 있음)
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width and depth must be positive: " + width + ", " + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(width * depth);
+    }
+
+    public void add(Object key, long count) {
+        int hash1 = mix(key.hashCode());
+        int hash2 = mix(hash1 ^ 0x5bd1e995);
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(row * width + index(hash1, hash2, row), count);
+        }
+    }
+
+    public long estimate(Object key) {
+        int hash1 = mix(key.hashCode());
+        int hash2 = mix(hash1 ^ 0x5bd1e995);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(row * width + index(hash1, hash2, row)));
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    // Kirsch-Mitzenmacher: 두 해시로 depth개의 해시를 만든다
+    private int index(int hash1, int hash2, int row) {
+        return Math.floorMod(hash1 + row * hash2, width);
+    }
+
+    // murmur3 fmix32
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.yumi.common.hotkey.application;
+
+import com.example.yumi.common.hotkey.dto.HotKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 핫 key 탐지기
+ * 요청을 sample-rate 비율로 샘플링하여 윈도우별 Count-Min Sketch와 Space-Saving에 기록하고,
+ * 최근 window-count개 윈도우(슬라이딩 윈도우)를 합쳐 상위 top-k key와 초당 요청 수를 추정한다.
+ * 윈도우를 전환할 때마다 현재 상위 key별 hotkey.top.rate{key} 게이지를 등록하고, 상위에서 빠진 key의 게이지는 제거한다.
+ */
+@Component
+@Slf4j
+public class HotKeyDetector {
+
+    private final boolean enabled;
+    private final int sampleRate;
+    private final int topK;
+    private final long windowMillis;
+    private final CountMinSketch[] sketches;
+    private final SpaceSaving[] heavyHitters;
+    private final Counter sampledCounter;
+    private final MeterRegistry meterRegistry;
+    // 현재 상위 key별 게이지 (rotate 쓰레드에서만 변경, 최대 top-k개)
+    private final Map<String, Meter> rateGauges = new HashMap<>();
+
+    private volatile int currentWindow;
+    private volatile long currentWindowStartedAt = System.currentTimeMillis();
+    private volatile int filledWindows = 1;
+    private volatile Map<String, HotKey> snapshot = Map.of();
+
+    public HotKeyDetector(MeterRegistry meterRegistry,
+                          @Value("${hotkey.enabled:true}") boolean enabled,
+                          @Value("${hotkey.sample-rate:8}") int sampleRate,
+                          @Value("${hotkey.top-k:10}") int topK,
+                          @Value("${hotkey.window-seconds:10}") long windowSeconds,
+                          @Value("${hotkey.window-count:6}") int windowCount,
+                          @Value("${hotkey.sketch-width:2048}") int sketchWidth,
+                          @Value("${hotkey.sketch-depth:4}") int sketchDepth) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.topK = topK;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.sketches = new CountMinSketch[windowCount];
+        this.heavyHitters = new SpaceSaving[windowCount];
+        for (int i = 0; i < windowCount; i++) {
+            sketches[i] = new CountMinSketch(sketchWidth, sketchDepth);
+            // 윈도우 간 순위가 바뀌어도 후보를 놓치지 않도록 top-k보다 넉넉하게 추적
+            heavyHitters[i] = new SpaceSaving(topK * 4);
+        }
+
+        this.sampledCounter = Counter.builder("hotkey.sampled")
+                .description("핫 key 탐지를 위해 샘플링된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 1건 기록 (샘플링되지 않으면 바로 반환)
+     */
+    public void record(String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+
+        int window = currentWindow;
+        sketches[window].add(key, sampleRate);
+        heavyHitters[window].offer(key, sampleRate);
+        sampledCounter.increment();
+    }
+
+    /**
+     * 슬라이딩 윈도우 기준 상위 top-k key (추정 요청 수 내림차순)
+     */
+    public List<HotKey> topK() {
+        Set<String> candidates = new HashSet<>();
+        for (SpaceSaving heavyHitter : heavyHitters) {
+            candidates.addAll(heavyHitter.candidates());
+        }
+
+        long elapsedMillis = (filledWindows - 1) * windowMillis + (System.currentTimeMillis() - currentWindowStartedAt);
+        double elapsedSeconds = Math.max(1, elapsedMillis) / 1000.0;
+
+        return candidates.stream()
+                .map(key -> {
+                    long estimatedCount = estimate(key);
+                    return new HotKey(key, estimatedCount, estimatedCount / elapsedSeconds);
+                })
+                .sorted(Comparator.comparingLong(HotKey::getEstimatedCount).reversed())
+                .limit(topK)
+                .toList();
+    }
+
+    /**
+     * 가장 오래된 윈도우를 비우고 현재 윈도우로 전환
+     */
+    @Scheduled(fixedRateString = "${hotkey.window-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void rotate() {
+        if (!enabled) {
+            return;
+        }
+
+        int next = (currentWindow + 1) % sketches.length;
+        sketches[next].clear();
+        heavyHitters[next].clear();
+        currentWindow = next;
+        currentWindowStartedAt = System.currentTimeMillis();
+        filledWindows = Math.min(sketches.length, filledWindows + 1);
+
+        List<HotKey> hotKeys = topK();
+        snapshot = hotKeys.stream().collect(Collectors.toMap(HotKey::getKey, Function.identity()));
+        updateRateGauges();
+        if (!hotKeys.isEmpty()) {
+            log.debug("핫 key 상위: {} ({}건/초)", hotKeys.get(0).getKey(), hotKeys.get(0).getRatePerSecond());
+        }
+    }
+
+    /**
+     * 상위에서 빠진 key의 게이지는 제거하고, 새로 들어온 key의 게이지를 등록 (태그 수는 top-k로 제한)
+     */
+    private void updateRateGauges() {
+        Map<String, HotKey> current = snapshot;
+        rateGauges.entrySet().removeIf(entry -> {
+            if (current.containsKey(entry.getKey())) {
+                return false;
+            }
+            meterRegistry.remove(entry.getValue());
+            return true;
+        });
+        for (String key : current.keySet()) {
+            rateGauges.computeIfAbsent(key, k -> Gauge.builder("hotkey.top.rate", this, detector -> detector.rateOf(k))
+                    .description("상위 핫 key의 초당 요청 수 추정치")
+                    .tag("key", k)
+                    .register(meterRegistry));
+        }
+    }
+
+    private long estimate(String key) {
+        long sum = 0;
+        for (CountMinSketch sketch : sketches) {
+            sum += sketch.estimate(key);
+        }
+        return sum;
+    }
+
+    private double rateOf(String key) {
+        HotKey hotKey = snapshot.get(key);
+        return hotKey == null ? 0 : hotKey.getRatePerSecond();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.yumi.common.hotkey.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters
+ * 최대 capacity개의 후보 key만 추적하며, 가득 차면 가장 작은 카운트의 key를 새 key로 교체한다.
+ * 샘플링된 이벤트만 들어오므로 단순 동기화로 충분하다.
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Long> counts;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counts = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void offer(String key, long count) {
+        Long current = counts.get(key);
+        if (current != null) {
+            counts.put(key, current + count);
+            return;
+        }
+        if (counts.size() < capacity) {
+            counts.put(key, count);
+            return;
+        }
+
+        // 가장 작은 카운트의 key를 교체 (새 key는 교체된 카운트를 이어받음)
+        String minKey = null;
+        long minCount = Long.MAX_VALUE;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            if (entry.getValue() < minCount) {
+                minKey = entry.getKey();
+                minCount = entry.getValue();
+            }
+        }
+        counts.remove(minKey);
+        counts.put(key, minCount + count);
+    }
+
+    public synchronized List<String> candidates() {
+        return new ArrayList<>(counts.keySet());
+    }
+
+    public synchronized void clear() {
+        counts.clear();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.yumi.common.hotkey.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HotKey {
+
+    private String key;
+
+    // 슬라이딩 윈도우 내 추정 요청 수 (샘플링 보정 포함)
+    private long estimatedCount;
+
+    private double ratePerSecond;
+}
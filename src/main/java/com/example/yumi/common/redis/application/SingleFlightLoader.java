@@ -0,0 +1,160 @@
+package com.example.yumi.common.redis.application;
+
+import com.example.yumi.common.redis.dto.LuaType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * key 단위 single-flight 로더
+ * 같은 key에 대한 동시 로드 요청은 JVM 내에서 하나의 Future로 합쳐지고,
+ * Redis 로드 락을 사용하면 여러 노드 간에도 한 번만 원본(DB)을 조회한다.
+ */
+@Component
+@Slf4j
+public class SingleFlightLoader {
+
+    private static final String LOCK_SUFFIX = ":load-lock";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LuaFactory luaFactory;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${redis.lazy-load.lock-enabled:true}")
+    private boolean lockEnabled;
+    @Value("${redis.lazy-load.lock-ttl-ms:3000}")
+    private long lockTtlMs;
+    @Value("${redis.lazy-load.wait-timeout-ms:2000}")
+    private long waitTimeoutMs;
+    @Value("${redis.lazy-load.poll-interval-ms:20}")
+    private long pollIntervalMs;
+
+    public SingleFlightLoader(RedisTemplate<String, Object> redisTemplate, LuaFactory luaFactory) {
+        this.redisTemplate = redisTemplate;
+        this.luaFactory = luaFactory;
+    }
+
+    /**
+     * Redis에 key가 없으면 valueLoader로 값을 로드하여 저장
+     * 이미 다른 쓰레드(노드)가 로드 중이면 그 결과를 기다리며, 대기 시간을 넘기면 예외를 던진다.
+     */
+    public <T> void loadIfAbsent(String key, Supplier<T> valueLoader) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            log.debug("Redis에 key가 이미 존재합니다. key: {}", key);
+            return;
+        }
+
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            // 같은 JVM에서 이미 로드 중이면 해당 Future를 기다림
+            await(key, existing);
+            return;
+        }
+
+        try {
+            load(key, valueLoader);
+            flight.complete(null);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private <T> void load(String key, Supplier<T> valueLoader) {
+        // Future를 선점하는 사이 다른 쓰레드가 이미 저장했을 수 있으므로 다시 확인
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return;
+        }
+
+        if (!lockEnabled) {
+            store(key, valueLoader);
+            return;
+        }
+
+        String lockKey = key + LOCK_SUFFIX;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMs));
+
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    store(key, valueLoader);
+                } finally {
+                    // 본인이 획득한 락만 해제 (TTL 만료 후 다른 노드가 잡은 락은 건드리지 않음)
+                    redisTemplate.execute(luaFactory.getRedisScript(LuaType.UNLOCK), Collections.singletonList(lockKey), token);
+                }
+                return;
+            }
+
+            // 다른 노드가 로드 중이면 key가 저장되거나 락이 풀릴 때까지 대기
+            if (waitForKey(key, lockKey, deadline)) {
+                return;
+            }
+            // 락을 잡았던 노드가 값을 저장하지 못하고 락을 놓았으면(로드 실패) 다시 락 획득을 시도
+            log.debug("로드 락이 해제되었지만 값이 없어 다시 로드를 시도합니다. key: {}", key);
+        }
+    }
+
+    private <T> void store(String key, Supplier<T> valueLoader) {
+        Object value = valueLoader.get();
+
+        // SETNX를 사용하여 동시성 문제 방지 true: 저장완료, false: 다른쓰레드에서 이미 저장
+        redisTemplate.opsForValue().setIfAbsent(key, value);
+    }
+
+    /**
+     * key가 저장되면 true, 값 없이 로드 락이 사라지면 false를 반환하고, 대기 시간을 넘기면 예외를 던진다.
+     */
+    private boolean waitForKey(String key, String lockKey, long deadline) {
+        while (true) {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return true;
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                // 락 해제와 값 저장 사이의 경합을 피하기 위해 한 번 더 확인
+                return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new IllegalStateException("다른 노드의 Redis 값 로드 대기 시간을 초과했습니다. key: " + key);
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Redis 값 로드 대기 중 인터럽트가 발생했습니다. key: " + key, e);
+            }
+        }
+    }
+
+    private void await(String key, CompletableFuture<Void> flight) {
+        try {
+            flight.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Redis 값 로드 대기 시간을 초과했습니다. key: " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Redis 값 로드 대기 중 인터럽트가 발생했습니다. key: " + key, e);
+        } catch (ExecutionException e) {
+            // 로드를 담당한 쓰레드의 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Redis 값 로드에 실패했습니다. key: " + key, e.getCause());
+        }
+    }
+}
@@ -9,7 +9,9 @@ import java.nio.charset.StandardCharsets;
 
 @RequiredArgsConstructor
 public enum LuaType {
-    DECREASE("lua/decrease.lua");
+    DECREASE("lua/decrease.lua"),
+    UNLOCK("lua/unlock.lua"),
+    LOWER_TO("lua/lower_to.lua");
 
     private final String path;
 
@@ -0,0 +1,29 @@
+package com.example.yumi.common.redis.dto;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum RedisKeyType {
+    STOCK("stock:");
+
+    private final String prefix;
+
+    public String key(Object id) {
+        return this.prefix + id;
+    }
+
+    public String pattern() {
+        return this.prefix + "*";
+    }
+
+    public boolean matches(String key) {
+        return key != null && key.startsWith(this.prefix);
+    }
+
+    public String id(String key) {
+        if (!matches(key)) {
+            throw new IllegalArgumentException("Redis key does not match type " + this + ": " + key);
+        }
+        return key.substring(this.prefix.length());
+    }
+}
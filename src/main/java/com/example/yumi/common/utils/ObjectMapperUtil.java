@@ -1,5 +1,6 @@
 package com.example.yumi.common.utils;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -7,7 +8,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ObjectMapperUtil {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // 롤링 배포 중 새 필드가 추가된 메시지도 읽을 수 있도록 모르는 필드는 무시
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
     public static String toJson(Object object) {
         try{
@@ -16,4 +19,19 @@ public class ObjectMapperUtil {
             throw new RuntimeException(e);
         }
     }
+
+    public static <T> T fromJson(String json, Class<T> type) {
+        try{
+            return objectMapper.readValue(json, type);
+        }catch (Exception e){
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 공통 설정을 가진 ObjectMapper 복사본 (mixin 등 별도 설정이 필요한 경우 사용)
+     */
+    public static ObjectMapper copyObjectMapper() {
+        return objectMapper.copy();
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.yumi.domains.order.controller;
 
 import com.example.yumi.domains.order.dto.OrderRequest;
+import com.example.yumi.domains.order.service.OrderGroupCommitService;
 import com.example.yumi.domains.order.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,10 +17,13 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderGroupCommitService orderGroupCommitService;
 
     @PostMapping
     public ResponseEntity<Map<String, Object>> createOrder(@Valid @RequestBody OrderRequest request) {
-        Long orderNo = orderService.order(request);
+        Long orderNo = orderGroupCommitService.isEnabled()
+                ? orderGroupCommitService.order(request)
+                : orderService.order(request);
         Map<String, Object> response = new HashMap<>();
         response.put("orderNo", orderNo);
         response.put("message", "Sqs를 이용한 주문이 완료되었습니다");
@@ -28,7 +32,9 @@ public class OrderController {
 
     @PostMapping("/lua")
     public ResponseEntity<Map<String, Object>> createOrderWithLua(@Valid @RequestBody OrderRequest request) {
-        Long orderNo = orderService.orderWithLua(request);
+        Long orderNo = orderGroupCommitService.isEnabled()
+                ? orderGroupCommitService.orderWithLua(request)
+                : orderService.orderWithLua(request);
         Map<String, Object> response = new HashMap<>();
         response.put("orderNo", orderNo);
         response.put("message", "Lua 스크립트를 이용한 주문이 완료되었습니다");
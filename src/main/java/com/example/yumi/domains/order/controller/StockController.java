@@ -0,0 +1,59 @@
+package com.example.yumi.domains.order.controller;
+
+import com.example.yumi.common.hotkey.application.HotKeyDetector;
+import com.example.yumi.common.redis.dto.RedisKeyType;
+import com.example.yumi.domains.order.dto.HotProductResponse;
+import com.example.yumi.domains.order.dto.StockReconciliationReport;
+import com.example.yumi.domains.order.dto.StockResponse;
+import com.example.yumi.domains.order.service.StockQueryService;
+import com.example.yumi.domains.order.service.StockReconciler;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/stocks")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockQueryService stockQueryService;
+    private final HotKeyDetector hotKeyDetector;
+    private final StockReconciler stockReconciler;
+
+    @GetMapping("/{productNo}")
+    public ResponseEntity<StockResponse> getStock(@PathVariable Long productNo) {
+        return stockQueryService.getStock(productNo)
+                .map(stock -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.maxAge(stock.getStockLevel().getPollIntervalSeconds(), TimeUnit.SECONDS))
+                        .body(stock))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping
+    public ResponseEntity<List<StockResponse>> getStocks(
+            @RequestParam @Size(min = 1, max = 100, message = "상품번호는 1개 이상 100개 이하로 조회할 수 있습니다") List<Long> ids) {
+        return ResponseEntity.ok(stockQueryService.getStocks(ids));
+    }
+
+    @GetMapping("/hot")
+    public ResponseEntity<List<HotProductResponse>> getHotProducts() {
+        List<HotProductResponse> hotProducts = hotKeyDetector.topK().stream()
+                .filter(hotKey -> RedisKeyType.STOCK.matches(hotKey.getKey()))
+                .map(HotProductResponse::from)
+                .toList();
+        return ResponseEntity.ok(hotProducts);
+    }
+
+    @GetMapping("/reconciliation")
+    public ResponseEntity<StockReconciliationReport> getLastReconciliationReport() {
+        return stockReconciler.getLastReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+}
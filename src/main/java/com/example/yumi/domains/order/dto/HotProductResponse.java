@@ -0,0 +1,24 @@
+package com.example.yumi.domains.order.dto;
+
+import com.example.yumi.common.hotkey.dto.HotKey;
+import com.example.yumi.common.redis.dto.RedisKeyType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HotProductResponse {
+
+    private Long productNo;
+
+    private long estimatedCount;
+
+    private double ratePerSecond;
+
+    public static HotProductResponse from(HotKey hotKey) {
+        return new HotProductResponse(
+                Long.valueOf(RedisKeyType.STOCK.id(hotKey.getKey())),
+                hotKey.getEstimatedCount(),
+                hotKey.getRatePerSecond());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.yumi.domains.order.dto;
+
+/**
+ * Redis/DB 재고 불일치 처리 정책
+ * Lua 경로는 Redis 카운터만, SQS 경로는 DB 재고만 차감하므로 어느 한쪽을 기준으로 다른 쪽을 덮어쓰면
+ * 반대쪽 경로에서 팔린 수량이 되살아나 초과 판매가 생긴다. 따라서 재고를 늘리는 방향의 보정은 지원하지 않는다.
+ */
+public enum ReconcilePolicy {
+    // 불일치만 보고
+    REPORT_ONLY,
+    // 양쪽을 더 작은 값으로 맞춤 (재고는 줄이기만 함, DB에 없는 Redis key는 삭제)
+    MIN_WINS
+}
@@ -0,0 +1,28 @@
+package com.example.yumi.domains.order.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 구간
+ * 클라이언트는 구간별 권장 폴링 간격을 참고하여 재고가 충분할 때는 덜 자주 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StockLevel {
+    SOLD_OUT(30),
+    LOW(2),
+    AVAILABLE(10);
+
+    private final long pollIntervalSeconds;
+
+    public static StockLevel of(int stockQuantity, int lowStockThreshold) {
+        if (stockQuantity <= 0) {
+            return SOLD_OUT;
+        }
+        if (stockQuantity <= lowStockThreshold) {
+            return LOW;
+        }
+        return AVAILABLE;
+    }
+}
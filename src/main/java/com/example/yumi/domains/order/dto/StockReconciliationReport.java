@@ -0,0 +1,35 @@
+package com.example.yumi.domains.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class StockReconciliationReport {
+
+    private ReconcilePolicy policy;
+
+    // DB에서 확인한 재고 row 수
+    private long scannedRows;
+
+    // Redis SCAN으로 확인한 stock key 수
+    private long scannedKeys;
+
+    // Redis에 아직 로드되지 않은 재고 수 (lazy loading 전이므로 불일치 아님)
+    private long notCached;
+
+    // Redis와 DB 수량이 다른 재고 수
+    private long drifted;
+
+    // DB에 없는 Redis key 수
+    private long orphaned;
+
+    // 정책에 따라 보정한 수
+    private long fixed;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,19 @@
+package com.example.yumi.domains.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StockResponse {
+
+    private Long productNo;
+
+    private Integer stockQuantity;
+
+    private StockLevel stockLevel;
+
+    public static StockResponse of(Long productNo, Integer stockQuantity, int lowStockThreshold) {
+        return new StockResponse(productNo, stockQuantity, StockLevel.of(stockQuantity, lowStockThreshold));
+    }
+}
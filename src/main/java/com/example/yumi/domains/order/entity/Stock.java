@@ -30,5 +30,16 @@ public class Stock {
 
         this.stockQuantity -= quantity;
     }
-}
 
+    /**
+     * 재고를 주어진 수량으로 낮춤 (현재 재고보다 크면 변경하지 않음)
+     */
+    public boolean lowerStockQuantityTo(Integer stockQuantity) {
+        if (stockQuantity >= this.stockQuantity) {
+            return false;
+        }
+
+        this.stockQuantity = stockQuantity;
+        return true;
+    }
+}
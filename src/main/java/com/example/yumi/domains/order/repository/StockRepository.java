@@ -1,6 +1,7 @@
 package com.example.yumi.domains.order.repository;
 
 import com.example.yumi.domains.order.entity.Stock;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -8,11 +9,18 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StockRepository extends JpaRepository<Stock, Long> {
     Optional<Stock> findByProductNo(Long productNo);
+
+    List<Stock> findByProductNoIn(Collection<Long> productNos);
+
+    // keyset 페이지네이션 (productNo 이후부터 limit건)
+    List<Stock> findByProductNoGreaterThanOrderByProductNoAsc(Long productNo, Limit limit);
     
     // 비관적 락 (PESSIMISTIC_WRITE)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -0,0 +1,54 @@
+package com.example.yumi.domains.order.service;
+
+import com.example.yumi.domains.order.dto.OrderRequest;
+import com.example.yumi.domains.order.dto.StockReduceRequest;
+import com.example.yumi.domains.order.entity.Order;
+import com.example.yumi.domains.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * 그룹 커밋 모드의 주문 서비스
+ * 주문 저장은 OrderGroupCommitter의 배치 트랜잭션에서 커밋되므로 요청 쓰레드는 트랜잭션(DB 커넥션)을 잡지 않는다.
+ * 주문 커밋 이후 재고 차감이 실패하면 저장된 주문을 삭제하여 기존 트랜잭션 롤백과 같은 결과를 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderGroupCommitService {
+    private final OrderGroupCommitter orderGroupCommitter;
+    private final OrderRepository orderRepository;
+    private final StockService stockService;
+    private final StockServiceWithLua stockServiceWithLua;
+
+    public boolean isEnabled() {
+        return orderGroupCommitter.isEnabled();
+    }
+
+    public Long order(OrderRequest request) {
+        return orderAndReduceStock(request, stockService::sendStockReduceRequest);
+    }
+
+    public Long orderWithLua(OrderRequest request) {
+        return orderAndReduceStock(request, stockServiceWithLua::reduceStock);
+    }
+
+    private Long orderAndReduceStock(OrderRequest request, Consumer<StockReduceRequest> stockReducer) {
+        // 1. 주문 entity 저장 (배치 커밋 완료까지 대기)
+        Order savedOrder = orderGroupCommitter.commit(request.toOrder());
+
+        // 2. 재고 차감, 실패 시 커밋된 주문 삭제
+        try {
+            stockReducer.accept(request.toStockReduceRequest(savedOrder.getOrderNo()));
+        } catch (RuntimeException e) {
+            log.warn("재고 차감 실패로 주문을 삭제합니다. orderNo: {}", savedOrder.getOrderNo());
+            orderRepository.deleteById(savedOrder.getOrderNo());
+            throw e;
+        }
+
+        return savedOrder.getOrderNo();
+    }
+}
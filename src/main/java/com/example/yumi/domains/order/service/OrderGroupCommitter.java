@@ -0,0 +1,240 @@
+package com.example.yumi.domains.order.service;
+
+import com.example.yumi.domains.order.entity.Order;
+import com.example.yumi.domains.order.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 주문 그룹 커밋
+ * 요청 쓰레드는 미리 할당된 링 버퍼(ArrayBlockingQueue)에 주문을 넣고,
+ * 단일 writer 쓰레드가 flush 간격 또는 배치 크기마다 여러 주문을 하나의 트랜잭션으로 저장한다.
+ * 요청 쓰레드는 자신이 속한 배치가 커밋된 뒤에 반환된다.
+ * writer는 빈 초기화 시점(웹 서버가 요청을 받기 전)에 시작하고,
+ * 종료 시에는 웹 서버 graceful shutdown으로 요청이 모두 끝난 뒤에 멈추며, 버퍼에 남은 주문을 커밋하고 종료한다.
+ */
+@Component
+@Slf4j
+public class OrderGroupCommitter implements SmartLifecycle {
+
+    @Value("${order.group-commit.enabled:false}")
+    private boolean enabled;
+    @Value("${order.group-commit.buffer-size:4096}")
+    private int bufferSize;
+    @Value("${order.group-commit.batch-size:100}")
+    private int batchSize;
+    @Value("${order.group-commit.flush-interval-ms:5}")
+    private long flushIntervalMs;
+    @Value("${order.group-commit.commit-timeout-ms:3000}")
+    private long commitTimeoutMs;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private BlockingQueue<PendingOrder> ringBuffer;
+    private Thread writer;
+    private volatile boolean running;
+
+    public OrderGroupCommitter(OrderRepository orderRepository, TransactionTemplate transactionTemplate) {
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문을 링 버퍼에 넣고 배치 커밋이 끝날 때까지 대기
+     * 버퍼 대기와 커밋 대기를 합쳐 commit-timeout-ms를 넘기면 해당 주문은 취소되며, 이미 커밋된 경우 writer가 삭제한다.
+     */
+    public Order commit(Order order) {
+        if (!running) {
+            throw new IllegalStateException("주문 그룹 커밋이 실행 중이 아닙니다");
+        }
+
+        PendingOrder pendingOrder = new PendingOrder(order, new CompletableFuture<>());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commitTimeoutMs);
+        try {
+            if (!ringBuffer.offer(pendingOrder, commitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("주문 그룹 커밋 대기열이 가득 찼습니다");
+            }
+            // 버퍼에 넣는 데 쓴 시간을 제외한 나머지만 커밋을 기다림
+            return pendingOrder.future().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!pendingOrder.future().cancel(false)) {
+                // 취소 직전에 writer가 결과를 정했으면 그 결과를 따름 (커밋된 주문을 실패로 응답하지 않음)
+                return completedResult(pendingOrder);
+            }
+            throw new IllegalStateException("주문 저장 대기 시간을 초과했습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!pendingOrder.future().cancel(false)) {
+                return completedResult(pendingOrder);
+            }
+            throw new IllegalStateException("주문 저장 대기 중 인터럽트가 발생했습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("주문 저장에 실패했습니다", e.getCause());
+        }
+    }
+
+    private Order completedResult(PendingOrder pendingOrder) {
+        try {
+            return pendingOrder.future().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("주문 저장에 실패했습니다", e.getCause());
+        }
+    }
+
+    /**
+     * SmartLifecycle 시작 순서는 웹 서버보다 늦으므로, 요청이 들어오기 전에 writer가 준비되도록 빈 초기화 시점에 시작
+     */
+    @PostConstruct
+    void init() {
+        start();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+
+        this.ringBuffer = new ArrayBlockingQueue<>(bufferSize);
+        this.running = true;
+        this.writer = new Thread(this::runWriter, "order-group-commit");
+        this.writer.start();
+        log.info("주문 그룹 커밋 시작. bufferSize: {}, batchSize: {}, flushIntervalMs: {}", bufferSize, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 컨텍스트 refresh가 실패하면 lifecycle stop이 호출되지 않으므로 빈 소멸 시에도 writer를 종료
+     */
+    @PreDestroy
+    void destroy() {
+        stop();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        // 새 요청은 거절하고, 버퍼에 남은 주문은 writer가 모두 커밋한 뒤 종료
+        this.running = false;
+        try {
+            writer.join(commitTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * graceful shutdown(진행 중 요청 완료 대기)보다 낮은 phase로 두어 요청이 모두 끝난 뒤에 stop되도록 함
+     * (start는 init에서 이미 수행되어 isRunning()이 true이므로 lifecycle 시작 시 다시 시작하지 않음)
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    private void runWriter() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (running || !ringBuffer.isEmpty()) {
+            try {
+                PendingOrder first = ringBuffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("주문 그룹 커밋 writer 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(List<PendingOrder> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            ringBuffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingOrder next = ringBuffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingOrder> batch) {
+        // 대기 시간을 넘겨 취소된 주문은 저장하지 않음
+        batch.removeIf(pendingOrder -> pendingOrder.future().isCancelled());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    orderRepository.saveAll(batch.stream().map(PendingOrder::order).toList()));
+        } catch (RuntimeException e) {
+            log.error("주문 그룹 커밋 실패. 배치 크기: {}", batch.size(), e);
+            batch.forEach(pendingOrder -> pendingOrder.future().completeExceptionally(e));
+            return;
+        }
+
+        // 커밋 도중 요청 쓰레드가 포기한 주문은 응답을 받을 곳이 없으므로 삭제
+        List<Long> abandonedOrderNos = new ArrayList<>();
+        for (PendingOrder pendingOrder : batch) {
+            if (!pendingOrder.future().complete(pendingOrder.order())) {
+                abandonedOrderNos.add(pendingOrder.order().getOrderNo());
+            }
+        }
+        if (!abandonedOrderNos.isEmpty()) {
+            log.warn("대기 시간 초과로 커밋된 주문을 삭제합니다. orderNos: {}", abandonedOrderNos);
+            orderRepository.deleteAllById(abandonedOrderNos);
+        }
+
+        log.debug("주문 그룹 커밋 완료. 배치 크기: {}", batch.size());
+    }
+
+    private record PendingOrder(Order order, CompletableFuture<Order> future) {
+    }
+}
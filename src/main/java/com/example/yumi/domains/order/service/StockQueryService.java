@@ -0,0 +1,117 @@
+package com.example.yumi.domains.order.service;
+
+import com.example.yumi.common.redis.dto.RedisKeyType;
+import com.example.yumi.domains.order.dto.StockResponse;
+import com.example.yumi.domains.order.entity.Stock;
+import com.example.yumi.domains.order.repository.StockRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 재고 조회 서비스
+ * 노드별 로컬 캐시(짧은 TTL, 최대 크기 제한) -> Redis MGET -> DB IN 조회 순으로 재고를 읽는다.
+ * Redis와 DB 어디에도 없는 상품도 같은 TTL 동안 Optional.empty()로 캐시하여 반복 조회가 DB까지 내려가지 않게 한다.
+ */
+@Service
+@Slf4j
+public class StockQueryService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StockRepository stockRepository;
+    private final Cache<Long, Optional<Integer>> stockCache;
+    private final int lowStockThreshold;
+
+    public StockQueryService(RedisTemplate<String, Object> redisTemplate,
+                             StockRepository stockRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${stock.read-cache.ttl-ms:1000}") long ttlMs,
+                             @Value("${stock.read-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${stock.read-cache.low-stock-threshold:10}") int lowStockThreshold) {
+        this.redisTemplate = redisTemplate;
+        this.stockRepository = stockRepository;
+        this.lowStockThreshold = lowStockThreshold;
+        this.stockCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, stockCache, "stock.read");
+    }
+
+    public Optional<StockResponse> getStock(Long productNo) {
+        return getStocks(List.of(productNo)).stream().findFirst();
+    }
+
+    /**
+     * 요청 순서대로 재고를 반환하며, 재고 정보가 없는 상품은 결과에서 제외
+     */
+    public List<StockResponse> getStocks(Collection<Long> productNos) {
+        Set<Long> distinctProductNos = new LinkedHashSet<>(productNos);
+        Map<Long, Optional<Integer>> stockQuantities = stockCache.getAll(distinctProductNos, this::loadStockQuantities);
+
+        List<StockResponse> responses = new ArrayList<>(stockQuantities.size());
+        for (Long productNo : distinctProductNos) {
+            stockQuantities.getOrDefault(productNo, Optional.empty())
+                    .ifPresent(stockQuantity -> responses.add(StockResponse.of(productNo, stockQuantity, lowStockThreshold)));
+        }
+        return responses;
+    }
+
+    private Map<Long, Optional<Integer>> loadStockQuantities(Set<? extends Long> productNos) {
+        List<Long> keys = new ArrayList<>(productNos);
+        Map<Long, Optional<Integer>> result = new HashMap<>();
+
+        // 1. Redis MGET (Lua 스크립트로 차감되는 stock:{productNo} 카운터)
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys.stream().map(RedisKeyType.STOCK::key).toList());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Integer stockQuantity = values == null ? null : toInteger(values.get(i));
+            if (stockQuantity != null) {
+                result.put(keys.get(i), Optional.of(stockQuantity));
+            } else {
+                missing.add(keys.get(i));
+            }
+        }
+
+        // 2. Redis에 없는 상품은 DB에서 한 번의 IN 쿼리로 조회
+        if (!missing.isEmpty()) {
+            for (Stock stock : stockRepository.findByProductNoIn(missing)) {
+                result.put(stock.getProductNo(), Optional.ofNullable(stock.getStockQuantity()));
+            }
+        }
+
+        // 3. 어디에도 없는 상품은 없음 표시를 캐시 (getAll은 반환되지 않은 key를 캐시하지 않음)
+        for (Long productNo : missing) {
+            result.putIfAbsent(productNo, Optional.empty());
+        }
+
+        log.debug("재고 캐시 로드. 요청: {}, Redis: {}, DB: {}", keys.size(), keys.size() - missing.size(), missing.size());
+        return result;
+    }
+
+    private Integer toInteger(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String string) {
+            return Integer.parseInt(string);
+        }
+        return null;
+    }
+}
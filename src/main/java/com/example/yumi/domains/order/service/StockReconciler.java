@@ -0,0 +1,279 @@
+package com.example.yumi.domains.order.service;
+
+import com.example.yumi.common.redis.application.LuaFactory;
+import com.example.yumi.common.redis.dto.LuaType;
+import com.example.yumi.common.redis.dto.RedisKeyType;
+import com.example.yumi.domains.order.dto.ReconcilePolicy;
+import com.example.yumi.domains.order.dto.StockReconciliationReport;
+import com.example.yumi.domains.order.entity.Stock;
+import com.example.yumi.domains.order.repository.StockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis/DB 재고 정합성 점검 작업
+ * 1. DB stock 테이블을 keyset 페이지네이션으로 chunk 단위 조회하여 Redis MGET 결과와 비교
+ * 2. Redis를 SCAN(stock:*)으로 chunk 단위 순회하여 DB에 없는 key를 확인
+ * chunk 사이마다 pause-ms 만큼 쉬어 주문 처리와 Redis/DB 자원을 나눠 쓴다.
+ * MIN_WINS 보정은 양쪽 재고를 더 작은 값으로만 낮추며, 차감 중인 값을 되돌리지 않도록
+ * Redis는 Lua 스크립트로(현재 값이 더 클 때만), DB는 row 비관적 락을 잡은 뒤 Redis 값을 다시 읽어 낮춘다.
+ * 모든 노드에서 스케줄되지만 Redis 리스(SET NX PX)를 잡은 한 노드만 점검을 수행하여 전체 부하를 한 노드 분량으로 제한한다.
+ */
+@Service
+@Slf4j
+public class StockReconciler {
+
+    private static final String LEASE_KEY = "reconcile:stock:lease";
+
+    @Value("${stock.reconcile.enabled:false}")
+    private boolean enabled;
+    @Value("${stock.reconcile.policy:REPORT_ONLY}")
+    private ReconcilePolicy policy;
+    @Value("${stock.reconcile.chunk-size:200}")
+    private int chunkSize;
+    @Value("${stock.reconcile.pause-ms:100}")
+    private long pauseMs;
+    @Value("${stock.reconcile.lease-ttl-ms:600000}")
+    private long leaseTtlMs;
+
+    private final StockRepository stockRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LuaFactory luaFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private volatile StockReconciliationReport lastReport;
+
+    public StockReconciler(StockRepository stockRepository,
+                           RedisTemplate<String, Object> redisTemplate,
+                           LuaFactory luaFactory,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.stockRepository = stockRepository;
+        this.redisTemplate = redisTemplate;
+        this.luaFactory = luaFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Optional<StockReconciliationReport> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reconcile.interval-ms:60000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        // 다른 노드가 점검 중이면 이번 주기는 건너뜀
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, Duration.ofMillis(leaseTtlMs));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("다른 노드가 재고 정합성 점검 중입니다");
+            return;
+        }
+
+        try {
+            reconcileAll();
+        } finally {
+            // 본인이 획득한 리스만 해제 (TTL 만료 후 다른 노드가 잡은 리스는 건드리지 않음)
+            redisTemplate.execute(luaFactory.getRedisScript(LuaType.UNLOCK), Collections.singletonList(LEASE_KEY), token);
+        }
+    }
+
+    private void reconcileAll() {
+        Counts counts = new Counts();
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            reconcileDbRows(counts);
+            reconcileRedisKeys(counts);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("재고 정합성 점검이 중단되었습니다");
+            return;
+        }
+
+        lastReport = new StockReconciliationReport(policy, counts.scannedRows, counts.scannedKeys, counts.notCached,
+                counts.drifted, counts.orphaned, counts.fixed, startedAt, LocalDateTime.now());
+        log.info("재고 정합성 점검 완료. 정책: {}, DB: {}, Redis: {}, 불일치: {}, 고아 key: {}, 보정: {}",
+                policy, counts.scannedRows, counts.scannedKeys, counts.drifted, counts.orphaned, counts.fixed);
+    }
+
+    private void reconcileDbRows(Counts counts) throws InterruptedException {
+        Long lastProductNo = Long.MIN_VALUE;
+        while (true) {
+            List<Stock> stocks = stockRepository.findByProductNoGreaterThanOrderByProductNoAsc(lastProductNo, Limit.of(chunkSize));
+            if (stocks.isEmpty()) {
+                return;
+            }
+
+            compareChunk(stocks, counts);
+            lastProductNo = stocks.get(stocks.size() - 1).getProductNo();
+
+            if (stocks.size() < chunkSize) {
+                return;
+            }
+            Thread.sleep(pauseMs);
+        }
+    }
+
+    private void compareChunk(List<Stock> stocks, Counts counts) {
+        List<String> keys = stocks.stream().map(stock -> RedisKeyType.STOCK.key(stock.getProductNo())).toList();
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+
+        for (int i = 0; i < stocks.size(); i++) {
+            Stock stock = stocks.get(i);
+            Object redisValue = values == null ? null : values.get(i);
+            counts.scannedRows++;
+
+            if (redisValue == null) {
+                counts.notCached++;
+                continue;
+            }
+
+            int redisQuantity = toInt(redisValue);
+            if (redisQuantity == stock.getStockQuantity()) {
+                continue;
+            }
+
+            counts.drifted++;
+            meterRegistry.counter("stock.reconcile.drift", "type", "quantity").increment();
+            log.warn("재고 불일치. 상품번호: {}, Redis: {}, DB: {}", stock.getProductNo(), redisQuantity, stock.getStockQuantity());
+
+            if (fixQuantity(stock, redisQuantity)) {
+                counts.fixed++;
+                meterRegistry.counter("stock.reconcile.fixed", "type", "quantity").increment();
+            }
+        }
+    }
+
+    private boolean fixQuantity(Stock stock, int redisQuantity) {
+        if (policy != ReconcilePolicy.MIN_WINS) {
+            return false;
+        }
+
+        String key = RedisKeyType.STOCK.key(stock.getProductNo());
+        if (redisQuantity > stock.getStockQuantity()) {
+            // Redis가 더 크면 DB 값으로 낮춤 (비교 이후 Lua 스크립트로 더 차감되었다면 그대로 둠)
+            Long result = redisTemplate.execute(luaFactory.getRedisScript(LuaType.LOWER_TO),
+                    Collections.singletonList(key), stock.getStockQuantity());
+            return result != null && result == 1L;
+        }
+
+        Boolean fixed = transactionTemplate.execute(status -> {
+            // DB가 더 크면 row 락을 잡은 뒤 Redis 값을 다시 읽어, 그 사이의 차감분까지 반영한 값으로 낮춤
+            Stock locked = stockRepository.findByProductNoWithPessimisticLock(stock.getProductNo()).orElse(null);
+            Object redisValue = redisTemplate.opsForValue().get(key);
+            if (locked == null || redisValue == null) {
+                return false;
+            }
+            return locked.lowerStockQuantityTo(toInt(redisValue));
+        });
+        return Boolean.TRUE.equals(fixed);
+    }
+
+    private void reconcileRedisKeys(Counts counts) throws InterruptedException {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(RedisKeyType.STOCK.pattern())
+                .count(chunkSize)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            Map<Long, String> chunk = new HashMap<>();
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long productNo = toProductNo(key);
+                // stock:{productNo}:load-lock 등 재고 카운터가 아닌 key는 제외
+                if (productNo == null) {
+                    continue;
+                }
+
+                chunk.put(productNo, key);
+                if (chunk.size() >= chunkSize) {
+                    findOrphans(chunk, counts);
+                    chunk.clear();
+                    Thread.sleep(pauseMs);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                findOrphans(chunk, counts);
+            }
+        }
+    }
+
+    private void findOrphans(Map<Long, String> chunk, Counts counts) {
+        counts.scannedKeys += chunk.size();
+
+        Set<Long> existing = new HashSet<>();
+        for (Stock stock : stockRepository.findByProductNoIn(chunk.keySet())) {
+            existing.add(stock.getProductNo());
+        }
+
+        List<String> orphanKeys = new ArrayList<>();
+        chunk.forEach((productNo, key) -> {
+            if (!existing.contains(productNo)) {
+                orphanKeys.add(key);
+            }
+        });
+        if (orphanKeys.isEmpty()) {
+            return;
+        }
+
+        counts.orphaned += orphanKeys.size();
+        meterRegistry.counter("stock.reconcile.drift", "type", "orphan").increment(orphanKeys.size());
+        log.warn("DB에 없는 Redis 재고 key: {}", orphanKeys);
+
+        // DB에 재고가 없는 상품은 판매 가능 수량을 0으로 보고 카운터를 삭제 (재고를 줄이는 방향)
+        if (policy == ReconcilePolicy.MIN_WINS) {
+            Long deleted = redisTemplate.delete(orphanKeys);
+            long fixed = deleted == null ? 0 : deleted;
+            counts.fixed += fixed;
+            meterRegistry.counter("stock.reconcile.fixed", "type", "orphan").increment(fixed);
+        }
+    }
+
+    private Long toProductNo(String key) {
+        try {
+            return Long.valueOf(RedisKeyType.STOCK.id(key));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private int toInt(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        return Integer.parseInt(value.toString());
+    }
+
+    private static class Counts {
+        private long scannedRows;
+        private long scannedKeys;
+        private long notCached;
+        private long drifted;
+        private long orphaned;
+        private long fixed;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.yumi.domains.order.service;
 
+import com.example.yumi.common.hotkey.application.HotKeyDetector;
+import com.example.yumi.common.redis.dto.RedisKeyType;
 import com.example.yumi.domains.order.dto.StockReduceRequest;
 import com.example.yumi.domains.order.entity.Stock;
 import com.example.yumi.domains.order.repository.StockRepository;
@@ -19,10 +21,12 @@ public class StockService {
 
     private final AwsSqsMessageSender sqsMessageSender;
     private final StockRepository stockRepository;
+    private final HotKeyDetector hotKeyDetector;
 
-    public StockService(AwsSqsMessageSender sqsMessageSender, StockRepository stockRepository) {
+    public StockService(AwsSqsMessageSender sqsMessageSender, StockRepository stockRepository, HotKeyDetector hotKeyDetector) {
         this.sqsMessageSender = sqsMessageSender;
         this.stockRepository = stockRepository;
+        this.hotKeyDetector = hotKeyDetector;
     }
 
     @Transactional
@@ -33,7 +37,10 @@ public class StockService {
 
     @Transactional
     public void reduceStock(StockReduceRequest stockReduceRequest) {
-        Stock stock = stockRepository.findByProductNo(stockReduceRequest.getProductNo())
+        hotKeyDetector.record(RedisKeyType.STOCK.key(stockReduceRequest.getProductNo()));
+
+        // 정합성 점검의 재고 보정과 같은 row를 갱신하므로 비관적 락으로 조회하여 lost update 방지
+        Stock stock = stockRepository.findByProductNoWithPessimisticLock(stockReduceRequest.getProductNo())
                 .orElseThrow(() -> new RuntimeException("상품번호 " + stockReduceRequest.getProductNo() + "에 해당하는 재고를 찾을 수 없습니다"));
 
         log.info("재고수량 : {}", stock.getStockQuantity());
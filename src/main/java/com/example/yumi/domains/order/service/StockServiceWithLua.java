@@ -2,6 +2,7 @@ package com.example.yumi.domains.order.service;
 
 import com.example.yumi.common.redis.application.LuaExecutor;
 import com.example.yumi.common.redis.dto.LuaType;
+import com.example.yumi.common.redis.dto.RedisKeyType;
 import com.example.yumi.domains.order.dto.StockReduceRequest;
 import com.example.yumi.domains.order.entity.Stock;
 import com.example.yumi.domains.order.repository.StockRepository;
@@ -18,7 +19,7 @@ public class StockServiceWithLua {
     private final StockRepository stockRepository;
 
     public void reduceStock(StockReduceRequest stockReduceRequest) {
-        String key = "stock:" + stockReduceRequest.getProductNo();
+        String key = RedisKeyType.STOCK.key(stockReduceRequest.getProductNo());
         
         // Lazy loading을 포함한 Lua 스크립트 실행
         Long result = luaExecutor.executeWithLazyLoad(
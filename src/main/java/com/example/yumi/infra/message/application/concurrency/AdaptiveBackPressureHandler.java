@@ -0,0 +1,61 @@
+package com.example.yumi.infra.message.application.concurrency;
+
+import io.awspring.cloud.sqs.listener.BatchAwareBackPressureHandler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * SQS 폴링 back-pressure를 AdaptiveConcurrencyLimiter의 limit에 맞추는 핸들러
+ * 폴링 전에 슬롯을 먼저 획득하므로 한 번에 수신하는 메시지 수는 min(maxMessagesPerPoll, limit - 사용 중인 슬롯)이고,
+ * limit이 줄면 수신 자체가 줄어 받은 메시지가 슬롯을 기다리며 visibility timeout을 소모하지 않는다.
+ */
+@Slf4j
+public class AdaptiveBackPressureHandler implements BatchAwareBackPressureHandler {
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final int batchSize;
+    private final Duration acquireTimeout;
+
+    public AdaptiveBackPressureHandler(AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter, int batchSize, Duration acquireTimeout) {
+        this.adaptiveConcurrencyLimiter = adaptiveConcurrencyLimiter;
+        this.batchSize = batchSize;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public int requestBatch() throws InterruptedException {
+        return request(batchSize);
+    }
+
+    @Override
+    public int request(int amount) throws InterruptedException {
+        return adaptiveConcurrencyLimiter.acquire(Math.min(amount, batchSize), acquireTimeout);
+    }
+
+    @Override
+    public void releaseBatch() {
+        release(batchSize);
+    }
+
+    @Override
+    public void release(int amount) {
+        adaptiveConcurrencyLimiter.release(amount);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public boolean drain(Duration timeout) {
+        try {
+            return adaptiveConcurrencyLimiter.awaitIdle(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("SQS 리스너 종료 중 처리 슬롯 반납 대기가 중단되었습니다");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.yumi.infra.message.application.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SQS 리스너 동시 처리 수를 런타임에 조정하는 AIMD 리미터
+ * 처리 지연, DB 커넥션 풀 대기, 큐 적체량을 주기적으로 확인하여
+ * 여유가 있으면 limit을 1씩 늘리고(additive increase), 과부하 신호가 있으면 비율로 줄인다(multiplicative decrease).
+ * 슬롯은 메시지 수신 전에 AdaptiveBackPressureHandler가 획득하므로, limit이 줄면 폴링 크기와 수신량도 함께 줄어든다.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    @Value("${spring.cloud.aws.sqs.stock-queue.url:}")
+    private String queueUrl;
+    @Value("${spring.cloud.aws.sqs.stock-queue.adaptive.min-limit:1}")
+    private int minLimit;
+    @Value("${spring.cloud.aws.sqs.stock-queue.adaptive.max-limit:50}")
+    private int maxLimit;
+    @Value("${spring.cloud.aws.sqs.stock-queue.adaptive.initial-limit:10}")
+    private int initialLimit;
+    @Value("${spring.cloud.aws.sqs.stock-queue.adaptive.target-latency-ms:200}")
+    private long targetLatencyMs;
+    @Value("${spring.cloud.aws.sqs.stock-queue.adaptive.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private volatile int limit;
+    // 수신을 위해 획득한 슬롯 수 (폴링 중 + 처리 대기 + 처리 중)
+    private volatile int inFlight;
+    // 리스너에서 처리 중인 메시지 수
+    private final AtomicInteger processing = new AtomicInteger();
+
+    private final AtomicInteger peakProcessing = new AtomicInteger();
+    private final LongAdder latencySumNanos = new LongAdder();
+    private final LongAdder latencyCount = new LongAdder();
+    private volatile long backlog = -1;
+
+    public AdaptiveConcurrencyLimiter(SqsAsyncClient sqsAsyncClient, DataSource dataSource, MeterRegistry meterRegistry) {
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+
+        Gauge.builder("sqs.listener.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("SQS 리스너 동시 처리 허용 수")
+                .register(meterRegistry);
+        Gauge.builder("sqs.listener.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("SQS 리스너가 획득한 처리 슬롯 수 (수신 중/처리 대기/처리 중 메시지)")
+                .register(meterRegistry);
+        Gauge.builder("sqs.queue.backlog", this, limiter -> limiter.backlog)
+                .description("SQS 큐 적체 메시지 수 (ApproximateNumberOfMessages)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최대 maxPermits개의 처리 슬롯 획득 (메시지 수신 전에 폴링 쓰레드가 호출)
+     * limit에 도달했으면 timeout까지 슬롯 반납을 기다리며, 획득한 슬롯 수(획득하지 못하면 0)를 반환한다.
+     */
+    public int acquire(int maxPermits, Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= limit) {
+                if (remainingNanos <= 0) {
+                    return 0;
+                }
+                remainingNanos = permitReleased.awaitNanos(remainingNanos);
+            }
+            int permits = Math.min(maxPermits, limit - inFlight);
+            inFlight += permits;
+            return permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리 슬롯 반납 (처리가 끝난 메시지 또는 폴링에서 사용하지 않은 슬롯)
+     */
+    public void release(int permits) {
+        if (permits <= 0) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            inFlight = Math.max(0, inFlight - permits);
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 획득한 슬롯이 모두 반납될 때까지 대기 (컨테이너 종료 시), 시간 내에 반납되면 true
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (inFlight > 0) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = permitReleased.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 리스너 처리 시작 기록 (포화 여부 판단용)
+     */
+    public void processingStarted() {
+        peakProcessing.accumulateAndGet(processing.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * 리스너 처리 완료 및 처리 지연 기록
+     */
+    public void processingFinished(long elapsedNanos) {
+        processing.decrementAndGet();
+        if (elapsedNanos >= 0) {
+            latencySumNanos.add(elapsedNanos);
+            latencyCount.increment();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.cloud.aws.sqs.stock-queue.adaptive.adjust-interval-ms:1000}")
+    public void adjust() {
+        long count = latencyCount.sumThenReset();
+        long sumNanos = latencySumNanos.sumThenReset();
+        long avgLatencyMs = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(sumNanos / count);
+        int threadsAwaitingConnection = threadsAwaitingConnection();
+        this.backlog = fetchBacklog();
+
+        lock.lock();
+        try {
+            int current = limit;
+            boolean saturated = peakProcessing.getAndSet(processing.get()) >= current;
+
+            if (threadsAwaitingConnection > 0 || avgLatencyMs > targetLatencyMs) {
+                // 과부하: DB 커넥션 대기가 있거나 처리 지연이 목표치를 넘음
+                limit = Math.max(minLimit, (int) (current * backoffRatio));
+            } else if (saturated && backlog != 0) {
+                // 여유: limit까지 꽉 차게 처리 중이고 큐에 메시지가 남아 있음 (적체량을 모르면 포화 여부만으로 판단)
+                limit = Math.min(maxLimit, current + 1);
+            }
+
+            if (limit > current) {
+                permitReleased.signalAll();
+            }
+            if (limit != current) {
+                log.info("SQS 리스너 동시 처리 수 조정: {} -> {} (평균지연: {}ms, 커넥션대기: {}, 적체: {})",
+                        current, limit, avgLatencyMs, threadsAwaitingConnection, backlog);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int threadsAwaitingConnection() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                return pool.getThreadsAwaitingConnection();
+            }
+        }
+        return 0;
+    }
+
+    private long fetchBacklog() {
+        if (!StringUtils.hasText(queueUrl)) {
+            return -1;
+        }
+
+        try {
+            String value = sqsAsyncClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                            .queueUrl(queueUrl)
+                            .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)
+                            .build())
+                    .get(500, TimeUnit.MILLISECONDS)
+                    .attributes()
+                    .get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES);
+            return value == null ? -1 : Long.parseLong(value);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            log.warn("SQS 큐 적체량 조회 실패. queueUrl: {}", queueUrl, e);
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.yumi.infra.message.application.concurrency;
+
+import io.awspring.cloud.sqs.config.Endpoint;
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.BackPressureHandler;
+import io.awspring.cloud.sqs.listener.SqsContainerOptions;
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+/**
+ * 컨테이너의 기본 Semaphore back-pressure 대신 AdaptiveBackPressureHandler를 사용하는 리스너 컨테이너 팩토리
+ * 컨테이너 옵션(maxConcurrentMessages)은 시작 후 바꿀 수 없으므로 상한값으로 두고, 실제 수신량은 리미터의 limit을 따른다.
+ */
+public class AdaptiveSqsListenerContainerFactory extends SqsMessageListenerContainerFactory<Object> {
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
+    public AdaptiveSqsListenerContainerFactory(SqsAsyncClient sqsAsyncClient, AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter) {
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.adaptiveConcurrencyLimiter = adaptiveConcurrencyLimiter;
+        setSqsAsyncClient(sqsAsyncClient);
+    }
+
+    @Override
+    protected SqsMessageListenerContainer<Object> createContainerInstance(Endpoint endpoint, SqsContainerOptions containerOptions) {
+        return new SqsMessageListenerContainer<>(sqsAsyncClient, containerOptions) {
+            @Override
+            protected BackPressureHandler createBackPressureHandler() {
+                return new AdaptiveBackPressureHandler(adaptiveConcurrencyLimiter,
+                        getContainerOptions().getMaxMessagesPerPoll(),
+                        getContainerOptions().getMaxDelayBetweenPolls());
+            }
+        };
+    }
+}
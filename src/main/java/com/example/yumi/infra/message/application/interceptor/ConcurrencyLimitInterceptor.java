@@ -0,0 +1,48 @@
+package com.example.yumi.infra.message.application.interceptor;
+
+import com.example.yumi.infra.message.application.concurrency.AdaptiveConcurrencyLimiter;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.interceptor.MessageInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리스너 실행 전후로 처리 시작/완료를 AdaptiveConcurrencyLimiter에 기록하는 인터셉터
+ * 처리 슬롯은 수신 전에 AdaptiveBackPressureHandler가 획득/반납하므로 여기서는 대기하지 않고,
+ * limit 조정에 쓰이는 처리 지연과 포화 여부만 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements MessageInterceptor<Object> {
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
+    // 수신 단위 receipt handle -> 처리 시작 시각
+    // messageId는 visibility timeout 후 재수신되어도 같으므로, 수신마다 새로 발급되는 receipt handle을 key로 사용
+    private final Map<Object, Long> startNanosByReceipt = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<Object> intercept(Message<Object> message) {
+        adaptiveConcurrencyLimiter.processingStarted();
+        startNanosByReceipt.put(receiptKey(message), System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterProcessing(Message<Object> message, Throwable t) {
+        Long startNanos = startNanosByReceipt.remove(receiptKey(message));
+        if (startNanos == null) {
+            return;
+        }
+        adaptiveConcurrencyLimiter.processingFinished(System.nanoTime() - startNanos);
+    }
+
+    private Object receiptKey(Message<Object> message) {
+        Object receiptHandle = message.getHeaders().get(SqsHeaders.SQS_RECEIPT_HANDLE_HEADER);
+        return receiptHandle != null ? receiptHandle : message.getHeaders().getId();
+    }
+}
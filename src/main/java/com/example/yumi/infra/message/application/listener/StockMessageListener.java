@@ -2,10 +2,13 @@ package com.example.yumi.infra.message.application.listener;
 
 import com.example.yumi.domains.order.dto.StockReduceRequest;
 import com.example.yumi.domains.order.service.StockService;
+import com.example.yumi.infra.message.application.metrics.StockQueueMetrics;
+import com.example.yumi.infra.message.codec.MessageCodecRegistry;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.Headers;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
@@ -16,13 +19,24 @@ import java.util.Map;
 public class StockMessageListener {
 
     private final StockService stockService;
+    private final StockQueueMetrics stockQueueMetrics;
+    private final MessageCodecRegistry messageCodecRegistry;
 
     @SqsListener(queueNames = "${spring.cloud.aws.sqs.stock-queue.name}")
-    public void listenOrderQueue(@Headers Map<String, Object> headers, StockReduceRequest stockReduceRequest) {
+    public void listenOrderQueue(@Headers Map<String, Object> headers, @Payload String body) {
+        // CodecVersion 헤더에 맞는 codec으로 디코딩 (헤더가 없으면 기존 JSON)
+        StockReduceRequest stockReduceRequest = messageCodecRegistry.decode(body, headers, StockReduceRequest.class);
         log.info("Received SQS message: productNo={}, quantity={}",
                 stockReduceRequest.getProductNo(), stockReduceRequest.getQuantity());
-        stockService.reduceStock(stockReduceRequest);
+
+        StockQueueMetrics.Sample sample = stockQueueMetrics.start(headers);
+        boolean succeeded = false;
+        try {
+            stockService.reduceStock(stockReduceRequest);
+            succeeded = true;
+        } finally {
+            stockQueueMetrics.stop(sample, succeeded);
+        }
     }
 }
 
-
@@ -0,0 +1,159 @@
+package com.example.yumi.infra.message.application.metrics;
+
+import com.example.yumi.infra.message.dto.SqsMessageEnvelope;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재고 큐 지연/재전송/처리 중 메시지 수 메트릭
+ * - stock.queue.lag{group, type=queue}: SQS SentTimestamp -> 리스너 수신
+ * - stock.queue.lag{group, type=end-to-end}: 메시지 생성(ProducedAt) -> 재고 차감 성공 (실패한 처리는 기록하지 않음)
+ * - stock.queue.lag.all{type}: 위 지연의 전체 집계, 백분위 히스토그램은 시계열 수를 줄이기 위해 이 집계에만 둔다
+ * - stock.queue.failed: 재고 차감에 실패한 메시지 수 (재전송되면 다시 집계)
+ * - stock.queue.receive-count, stock.queue.redelivered: ApproximateReceiveCount 기반 재전송 현황
+ * - stock.queue.in-flight: 상품 그룹별로 리스너 메서드에서 재고 차감 중인 메시지 수
+ *   (수신 후 리스너 호출 전 대기 중인 메시지와 역직렬화 단계는 포함하지 않음,
+ *   리미터가 획득한 전체 슬롯 수는 sqs.listener.concurrency.in-flight 참고)
+ * 상품 그룹(messageGroupId) 태그는 max-tracked-groups개까지만 만들고 나머지는 other로 묶는다.
+ */
+@Component
+@Slf4j
+public class StockQueueMetrics {
+
+    private static final String OTHER_GROUP = "other";
+    private static final String UNKNOWN_GROUP = "unknown";
+
+    @Value("${spring.cloud.aws.sqs.stock-queue.metrics.max-tracked-groups:100}")
+    private int maxTrackedGroups;
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> trackedGroups = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> inFlightByGroup = new ConcurrentHashMap<>();
+
+    public StockQueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 메시지 수신 시점 기록
+     */
+    public Sample start(Map<String, Object> headers) {
+        long receivedAt = System.currentTimeMillis();
+        String group = groupTag(headers);
+
+        Long sentTimestamp = longHeader(headers, SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP);
+        if (sentTimestamp != null) {
+            recordLag(group, "queue", Duration.ofMillis(Math.max(0, receivedAt - sentTimestamp)));
+        }
+
+        Long receiveCount = longHeader(headers, SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT);
+        if (receiveCount != null) {
+            DistributionSummary.builder("stock.queue.receive-count")
+                    .tag("group", group)
+                    .register(meterRegistry)
+                    .record(receiveCount);
+            if (receiveCount > 1) {
+                Counter.builder("stock.queue.redelivered")
+                        .tag("group", group)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+
+        inFlight(group).incrementAndGet();
+        return new Sample(group, longHeader(headers, SqsMessageEnvelope.PRODUCED_AT_HEADER));
+    }
+
+    /**
+     * 재고 차감 완료(또는 실패) 시점 기록
+     */
+    public void stop(Sample sample, boolean succeeded) {
+        inFlight(sample.group()).decrementAndGet();
+
+        if (!succeeded) {
+            // 실패(poison 메시지 포함)는 end-to-end 지연에 섞지 않고 별도로 집계
+            Counter.builder("stock.queue.failed")
+                    .tag("group", sample.group())
+                    .register(meterRegistry)
+                    .increment();
+            return;
+        }
+
+        if (sample.producedAt() != null) {
+            long lagMillis = Math.max(0, System.currentTimeMillis() - sample.producedAt());
+            recordLag(sample.group(), "end-to-end", Duration.ofMillis(lagMillis));
+        }
+    }
+
+    private void recordLag(String group, String type, Duration lag) {
+        Timer.builder("stock.queue.lag")
+                .tag("group", group)
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(lag);
+        Timer.builder("stock.queue.lag.all")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(lag);
+    }
+
+    private AtomicInteger inFlight(String group) {
+        return inFlightByGroup.computeIfAbsent(group, g -> {
+            AtomicInteger inFlight = new AtomicInteger();
+            Gauge.builder("stock.queue.in-flight", inFlight, AtomicInteger::get)
+                    .tag("group", g)
+                    .register(meterRegistry);
+            return inFlight;
+        });
+    }
+
+    private String groupTag(Map<String, Object> headers) {
+        Object messageGroupId = headers.get(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER);
+        if (messageGroupId == null) {
+            return UNKNOWN_GROUP;
+        }
+
+        String group = messageGroupId.toString();
+        if (trackedGroups.contains(group)) {
+            return group;
+        }
+        // 태그 카디널리티 제한 (대략적인 상한, 동시 등록 시 약간 넘을 수 있음)
+        if (trackedGroups.size() < maxTrackedGroups) {
+            trackedGroups.add(group);
+            return group;
+        }
+        return OTHER_GROUP;
+    }
+
+    private Long longHeader(Map<String, Object> headers, String name) {
+        Object value = headers.get(name);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value != null) {
+            try {
+                return Long.parseLong(value.toString());
+            } catch (NumberFormatException e) {
+                log.debug("숫자가 아닌 헤더 값입니다. {}: {}", name, value);
+            }
+        }
+        return null;
+    }
+
+    public record Sample(String group, Long producedAt) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.yumi.infra.message.application.sender;
 
-import com.example.yumi.common.utils.ObjectMapperUtil;
+import com.example.yumi.infra.message.codec.MessageCodec;
+import com.example.yumi.infra.message.codec.MessageCodecRegistry;
 import com.example.yumi.infra.message.dto.SqsMessageEnvelope;
 import io.awspring.cloud.sqs.operations.SendResult;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
@@ -17,13 +18,21 @@ import java.util.UUID;
 public class AwsSqsMessageSender {
 
     private final SqsTemplate sqsTemplate;
+    private final MessageCodecRegistry messageCodecRegistry;
 
-    public <T> SendResult<T> sendMessage(SqsMessageEnvelope<T> request){
-        SendResult<T> result = sqsTemplate.send(to -> to
-                .queue(request.getQueueName())
-                .messageGroupId(request.getMessageGroupId())
-                .messageDeduplicationId(Optional.ofNullable(request.getDeduplicationId()).orElse(UUID.randomUUID().toString()))
-                .payload(request.getPayload()));
+    public <T> SendResult<Object> sendMessage(SqsMessageEnvelope<T> request){
+        // 등록된 codec이 있으면 인코딩된 문자열과 codec 버전을, 없으면 기존처럼 객체를 그대로 전송
+        Optional<MessageCodec<T>> codec = messageCodecRegistry.encoderFor(request.getPayload());
+        Object payload = codec.<Object>map(c -> c.encode(request.getPayload())).orElse(request.getPayload());
+
+        SendResult<Object> result = sqsTemplate.send(to -> {
+            to.queue(request.getQueueName())
+                    .messageGroupId(request.getMessageGroupId())
+                    .messageDeduplicationId(Optional.ofNullable(request.getDeduplicationId()).orElse(UUID.randomUUID().toString()))
+                    .header(SqsMessageEnvelope.PRODUCED_AT_HEADER, String.valueOf(request.getProducedAt()))
+                    .payload(payload);
+            codec.ifPresent(c -> to.header(MessageCodecRegistry.VERSION_HEADER, c.version()));
+        });
 
         log.info("send to sqs messageId : {}", result.messageId());
 
@@ -0,0 +1,72 @@
+package com.example.yumi.infra.message.codec;
+
+import com.example.yumi.common.utils.ObjectMapperUtil;
+import com.example.yumi.domains.order.dto.StockReduceRequest;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * StockReduceRequest 축약 키 JSON codec
+ * {"orderId":1,"productNo":1,"quantity":1} -> {"o":1,"p":1,"q":1}
+ * DTO에는 손대지 않고 mixin으로 필드명을 바꾸며, reader/writer는 생성 시 한 번만 만든다.
+ */
+@Component
+public class CompactStockReduceRequestCodec implements MessageCodec<StockReduceRequest> {
+
+    public static final String VERSION = "stock-reduce.compact.v1";
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public CompactStockReduceRequestCodec() {
+        ObjectMapper objectMapper = ObjectMapperUtil.copyObjectMapper()
+                .addMixIn(StockReduceRequest.class, CompactMixin.class);
+        this.reader = objectMapper.readerFor(StockReduceRequest.class);
+        this.writer = objectMapper.writerFor(StockReduceRequest.class);
+    }
+
+    @Override
+    public String version() {
+        return VERSION;
+    }
+
+    @Override
+    public Class<StockReduceRequest> payloadType() {
+        return StockReduceRequest.class;
+    }
+
+    @Override
+    public String encode(StockReduceRequest payload) {
+        try {
+            return writer.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("재고 차감 메시지 인코딩에 실패했습니다", e);
+        }
+    }
+
+    @Override
+    public StockReduceRequest decode(String body) {
+        try {
+            return reader.readValue(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("재고 차감 메시지 디코딩에 실패했습니다: " + body, e);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({"o", "p", "q"})
+    abstract static class CompactMixin {
+        @JsonProperty("o")
+        private Long orderId;
+        @JsonProperty("p")
+        private Long productNo;
+        @JsonProperty("q")
+        private Integer quantity;
+    }
+}
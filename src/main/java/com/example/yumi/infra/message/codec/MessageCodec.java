@@ -0,0 +1,16 @@
+package com.example.yumi.infra.message.codec;
+
+/**
+ * SQS 메시지 페이로드 인코더/디코더
+ * 인코딩 방식은 version()으로 메시지 속성(CodecVersion)에 기록되어, 수신 측이 같은 codec으로 디코딩한다.
+ */
+public interface MessageCodec<T> {
+
+    String version();
+
+    Class<T> payloadType();
+
+    String encode(T payload);
+
+    T decode(String body);
+}
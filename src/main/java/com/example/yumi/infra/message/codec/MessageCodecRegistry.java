@@ -0,0 +1,56 @@
+package com.example.yumi.infra.message.codec;
+
+import com.example.yumi.common.utils.ObjectMapperUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 페이로드 타입별 codec 선택 및 CodecVersion 헤더 기반 디코딩
+ * 롤링 배포 순서: 1) 모든 컨슈머 배포 (헤더 없는 기존 JSON과 축약 codec 모두 디코딩)
+ *               2) compact-enabled=true 로 프로듀서 전환
+ */
+@Component
+public class MessageCodecRegistry {
+
+    // 메시지를 인코딩한 codec 버전을 담는 메시지 속성 이름 (없으면 기존 JSON)
+    public static final String VERSION_HEADER = "CodecVersion";
+
+    private final Map<String, MessageCodec<?>> codecsByVersion = new HashMap<>();
+    private final Map<Class<?>, MessageCodec<?>> encodersByType = new HashMap<>();
+
+    public MessageCodecRegistry(List<MessageCodec<?>> codecs,
+                                @Value("${spring.cloud.aws.sqs.stock-queue.codec.compact-enabled:false}") boolean compactEnabled) {
+        for (MessageCodec<?> codec : codecs) {
+            codecsByVersion.put(codec.version(), codec);
+            if (compactEnabled) {
+                encodersByType.put(codec.payloadType(), codec);
+            }
+        }
+    }
+
+    /**
+     * 전송 시 사용할 codec, 없으면 기존 SqsTemplate JSON 변환을 그대로 사용
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<MessageCodec<T>> encoderFor(T payload) {
+        return Optional.ofNullable((MessageCodec<T>) encodersByType.get(payload.getClass()));
+    }
+
+    public <T> T decode(String body, Map<String, Object> headers, Class<T> payloadType) {
+        Object version = headers.get(VERSION_HEADER);
+        if (version == null) {
+            return ObjectMapperUtil.fromJson(body, payloadType);
+        }
+
+        MessageCodec<?> codec = codecsByVersion.get(version.toString());
+        if (codec == null || !payloadType.equals(codec.payloadType())) {
+            throw new IllegalArgumentException("지원하지 않는 메시지 codec 입니다. version: " + version + ", type: " + payloadType.getSimpleName());
+        }
+        return payloadType.cast(codec.decode(body));
+    }
+}
@@ -5,19 +5,24 @@ import lombok.Getter;
 @Getter
 public class SqsMessageEnvelope<T> {
 
+    // 메시지 생성 시각(epoch millis)을 담는 메시지 속성 이름
+    public static final String PRODUCED_AT_HEADER = "ProducedAt";
+
     private String queueName;
     private String messageGroupId;
     private String deduplicationId;
     private T payload;
+    private long producedAt;
 
-    private SqsMessageEnvelope(String queueName, String messageGroupId, String deduplicationId, T payload) {
+    private SqsMessageEnvelope(String queueName, String messageGroupId, String deduplicationId, T payload, long producedAt) {
         this.queueName = queueName;
         this.messageGroupId = messageGroupId;
         this.deduplicationId = deduplicationId;
         this.payload = payload;
+        this.producedAt = producedAt;
     }
 
     public static <T> SqsMessageEnvelope<T> createSqsMessageEnvelope(String queueName, String messageGroupId, String deduplicationId, T payload){
-        return new SqsMessageEnvelope<>(queueName, messageGroupId, deduplicationId, payload);
+        return new SqsMessageEnvelope<>(queueName, messageGroupId, deduplicationId, payload, System.currentTimeMillis());
     }
 }
@@ -0,0 +1 @@
+INSERT INTO stock (product_no, stock_quantity) VALUES (1, 1000000);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS orders (
+    order_no BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_no BIGINT NOT NULL,
+    product_no BIGINT NOT NULL,
+    order_quantity INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS stock (
+    product_no BIGINT PRIMARY KEY,
+    stock_quantity INTEGER NOT NULL
+);
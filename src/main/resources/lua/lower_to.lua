@@ -0,0 +1,11 @@
+local key = KEYS[1]
+local value = tonumber(ARGV[1])
+
+local current = tonumber(redis.call('GET', key))
+
+if current == nil or current <= value then
+    return 0
+end
+
+redis.call('SET', key, value)
+return 1
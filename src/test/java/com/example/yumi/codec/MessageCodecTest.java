@@ -0,0 +1,69 @@
+package com.example.yumi.codec;
+
+import com.example.yumi.common.utils.ObjectMapperUtil;
+import com.example.yumi.domains.order.dto.StockReduceRequest;
+import com.example.yumi.infra.message.codec.CompactStockReduceRequestCodec;
+import com.example.yumi.infra.message.codec.MessageCodecRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageCodecTest {
+
+    private final CompactStockReduceRequestCodec compactCodec = new CompactStockReduceRequestCodec();
+    private final MessageCodecRegistry registry = new MessageCodecRegistry(List.of(compactCodec), true);
+
+    /**
+     * 축약 키 codec 인코딩/디코딩 테스트
+     *
+     * 검증:
+     * - 축약 키로 인코딩되어 기존 JSON보다 작음
+     * - CodecVersion 헤더로 같은 값이 복원됨
+     */
+    @Test
+    void compactCodecRoundTrip() {
+        // Given
+        StockReduceRequest request = new StockReduceRequest(10L, 1L, 3);
+
+        // When
+        String body = compactCodec.encode(request);
+        StockReduceRequest decoded = registry.decode(body,
+                Map.of(MessageCodecRegistry.VERSION_HEADER, CompactStockReduceRequestCodec.VERSION),
+                StockReduceRequest.class);
+
+        // Then
+        assertThat(body).isEqualTo("{\"o\":10,\"p\":1,\"q\":3}");
+        assertThat(body.length()).isLessThan(ObjectMapperUtil.toJson(request).length());
+        assertThat(decoded.getOrderId()).isEqualTo(10L);
+        assertThat(decoded.getProductNo()).isEqualTo(1L);
+        assertThat(decoded.getQuantity()).isEqualTo(3);
+    }
+
+    /**
+     * 롤링 배포 호환성 테스트
+     *
+     * 검증:
+     * - CodecVersion 헤더가 없는 기존 JSON 메시지도 디코딩됨
+     * - 알 수 없는 codec 버전은 예외
+     */
+    @Test
+    void decodeLegacyJsonAndRejectUnknownVersion() {
+        // Given
+        String legacyBody = "{\"orderId\":10,\"productNo\":1,\"quantity\":3}";
+
+        // When
+        StockReduceRequest decoded = registry.decode(legacyBody, Map.of(), StockReduceRequest.class);
+
+        // Then
+        assertThat(decoded.getProductNo()).isEqualTo(1L);
+        assertThat(decoded.getQuantity()).isEqualTo(3);
+        assertThatThrownBy(() -> registry.decode(legacyBody,
+                Map.of(MessageCodecRegistry.VERSION_HEADER, "unknown.v9"),
+                StockReduceRequest.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.yumi.concurrency;
+
+import com.example.yumi.infra.message.application.concurrency.AdaptiveBackPressureHandler;
+import com.example.yumi.infra.message.application.concurrency.AdaptiveConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(50);
+
+    /**
+     * 가산 증가(additive increase) 테스트
+     *
+     * 테스트 시나리오:
+     * 1. limit 10, 목표 지연 200ms
+     * 2. 10개 메시지를 동시에 처리(포화), 처리 지연 10ms, 큐 적체량 모름
+     *
+     * 검증:
+     * - limit이 1 증가하여 11
+     */
+    @Test
+    void increasesByOneWhenSaturatedAndFast() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(mock(DataSource.class), 10);
+        assertThat(limiter.acquire(10, ACQUIRE_TIMEOUT)).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            limiter.processingStarted();
+        }
+        limiter.processingFinished(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // When
+        limiter.adjust();
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(11);
+    }
+
+    /**
+     * 포화되지 않은 경우 유지 테스트
+     *
+     * 검증:
+     * - 슬롯을 모두 획득했더라도(빈 폴링 포함) 실제 처리 중인 메시지가 적으면 limit을 늘리지 않음
+     */
+    @Test
+    void keepsLimitWhenNotSaturated() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(mock(DataSource.class), 10);
+        limiter.acquire(10, ACQUIRE_TIMEOUT);
+        for (int i = 0; i < 3; i++) {
+            limiter.processingStarted();
+        }
+
+        // When
+        limiter.adjust();
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    /**
+     * 처리 지연 초과 시 곱셈 감소(multiplicative decrease) 테스트
+     *
+     * 테스트 시나리오:
+     * 1. limit 10, backoff-ratio 0.7, 목표 지연 200ms
+     * 2. 처리 지연 500ms
+     *
+     * 검증:
+     * - limit이 10 * 0.7 = 7로 감소
+     */
+    @Test
+    void decreasesWhenLatencyExceedsTarget() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(mock(DataSource.class), 10);
+        for (int i = 0; i < 10; i++) {
+            limiter.processingStarted();
+        }
+        limiter.processingFinished(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // When
+        limiter.adjust();
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(7);
+    }
+
+    /**
+     * DB 커넥션 대기 시 감소 및 최소값 테스트
+     *
+     * 테스트 시나리오:
+     * 1. Hikari 풀에서 커넥션을 기다리는 쓰레드 2개
+     * 2. limit 10에서 여러 번 조정
+     *
+     * 검증:
+     * - 처리 지연과 무관하게 limit 감소
+     * - min-limit(1) 아래로는 내려가지 않음
+     */
+    @Test
+    void decreasesOnConnectionWaitDownToMinLimit() {
+        // Given
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(2);
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        AdaptiveConcurrencyLimiter limiter = limiter(dataSource, 10);
+
+        // When
+        limiter.adjust();
+        int afterFirstAdjust = limiter.getLimit();
+        for (int i = 0; i < 20; i++) {
+            limiter.adjust();
+        }
+
+        // Then
+        assertThat(afterFirstAdjust).isEqualTo(7);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    /**
+     * limit 감소 시 폴링 크기 축소 테스트
+     *
+     * 테스트 시나리오:
+     * 1. maxMessagesPerPoll 10인 back-pressure 핸들러, limit 10
+     * 2. 처리 지연 초과로 limit이 7로 감소
+     * 3. 5개 슬롯 사용 중
+     *
+     * 검증:
+     * - limit 감소 후 한 번에 수신할 수 있는 수는 남은 슬롯 수(2)
+     * - 슬롯이 모두 사용 중이면 수신하지 않음(0)
+     * - 처리 완료로 슬롯이 반납되면 다시 수신 가능
+     */
+    @Test
+    void pollSizeShrinksWithLimit() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(mock(DataSource.class), 10);
+        AdaptiveBackPressureHandler handler = new AdaptiveBackPressureHandler(limiter, 10, ACQUIRE_TIMEOUT);
+        limiter.processingStarted();
+        limiter.processingFinished(TimeUnit.MILLISECONDS.toNanos(500));
+        limiter.adjust();
+        assertThat(handler.request(5)).isEqualTo(5);
+
+        // When
+        int secondPoll = handler.requestBatch();
+        int thirdPoll = handler.requestBatch();
+        handler.release(3);
+        int fourthPoll = handler.requestBatch();
+
+        // Then
+        assertThat(secondPoll).isEqualTo(2);
+        assertThat(thirdPoll).isZero();
+        assertThat(fourthPoll).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isEqualTo(7);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(DataSource dataSource, int initialLimit) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(mock(SqsAsyncClient.class), dataSource, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "queueUrl", "");
+        ReflectionTestUtils.setField(limiter, "minLimit", 1);
+        ReflectionTestUtils.setField(limiter, "maxLimit", 50);
+        ReflectionTestUtils.setField(limiter, "initialLimit", initialLimit);
+        ReflectionTestUtils.setField(limiter, "targetLatencyMs", 200L);
+        ReflectionTestUtils.setField(limiter, "backoffRatio", 0.7);
+        ReflectionTestUtils.invokeMethod(limiter, "init");
+        return limiter;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.yumi.hotkey;
+
+import com.example.yumi.common.hotkey.application.HotKeyDetector;
+import com.example.yumi.common.hotkey.dto.HotKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HotKeyDetectorTest {
+
+    /**
+     * 샘플링 가중치 테스트
+     *
+     * 테스트 시나리오:
+     * 1. sample-rate 4 (요청 4건 중 1건만 기록)
+     * 2. stock:1 요청 40,000건
+     *
+     * 검증:
+     * - 샘플링된 요청에 가중치 4를 주어 추정 요청 수가 실제 요청 수와 비슷함 (오차 10% 이내)
+     */
+    @Test
+    void weightsSampledRequestsBySampleRate() {
+        // Given
+        HotKeyDetector detector = detector(new SimpleMeterRegistry(), 4, 6);
+
+        // When
+        for (int i = 0; i < 40_000; i++) {
+            detector.record("stock:1");
+        }
+
+        // Then
+        HotKey hotKey = detector.topK().get(0);
+        assertThat(hotKey.getKey()).isEqualTo("stock:1");
+        assertThat(hotKey.getEstimatedCount() % 4).isZero();
+        assertThat((double) hotKey.getEstimatedCount()).isCloseTo(40_000, within(4_000.0));
+    }
+
+    /**
+     * 초당 요청 수 계산 테스트
+     *
+     * 테스트 시나리오:
+     * 1. sample-rate 1, 현재 윈도우가 2초 전에 시작
+     * 2. stock:1 1,000건
+     *
+     * 검증:
+     * - 초당 요청 수는 1,000건 / 2초 = 약 500
+     */
+    @Test
+    void computesRateFromElapsedWindowTime() {
+        // Given
+        HotKeyDetector detector = detector(new SimpleMeterRegistry(), 1, 6);
+        ReflectionTestUtils.setField(detector, "currentWindowStartedAt", System.currentTimeMillis() - 2_000);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            detector.record("stock:1");
+        }
+
+        // Then
+        HotKey hotKey = detector.topK().get(0);
+        assertThat(hotKey.getEstimatedCount()).isEqualTo(1_000);
+        assertThat(hotKey.getRatePerSecond()).isCloseTo(500, within(25.0));
+    }
+
+    /**
+     * 윈도우 전환 및 key별 게이지 테스트
+     *
+     * 테스트 시나리오:
+     * 1. 윈도우 2개, sample-rate 1
+     * 2. 첫 윈도우에 stock:1 10건 -> 전환 -> 두 번째 윈도우에 stock:2 5건 -> 전환
+     * 3. 두 번째 전환에서 stock:1이 기록된 가장 오래된 윈도우가 비워짐
+     *
+     * 검증:
+     * - 첫 전환 후 stock:1 게이지 등록
+     * - 두 번째 전환 후 stock:1은 상위에서 빠지고 게이지도 제거, stock:2 게이지 등록
+     */
+    @Test
+    void rotationEvictsOldestWindowAndReplacesGauges() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HotKeyDetector detector = detector(meterRegistry, 1, 2);
+        for (int i = 0; i < 10; i++) {
+            detector.record("stock:1");
+        }
+
+        // When
+        detector.rotate();
+        boolean firstGaugeRegistered = meterRegistry.find("hotkey.top.rate").tag("key", "stock:1").gauge() != null;
+        for (int i = 0; i < 5; i++) {
+            detector.record("stock:2");
+        }
+        detector.rotate();
+
+        // Then
+        List<HotKey> hotKeys = detector.topK();
+        assertThat(firstGaugeRegistered).isTrue();
+        assertThat(hotKeys).extracting(HotKey::getKey).containsExactly("stock:2");
+        assertThat(hotKeys.get(0).getEstimatedCount()).isEqualTo(5);
+        assertThat(meterRegistry.find("hotkey.top.rate").tag("key", "stock:1").gauge()).isNull();
+        assertThat(meterRegistry.find("hotkey.top.rate").tag("key", "stock:2").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hotkey.top.rate").tag("key", "stock:2").gauge().value()).isGreaterThan(0);
+    }
+
+    private HotKeyDetector detector(SimpleMeterRegistry meterRegistry, int sampleRate, int windowCount) {
+        return new HotKeyDetector(meterRegistry, true, sampleRate, 10, 10, windowCount, 2048, 4);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.yumi.hotkey;
+
+import com.example.yumi.common.hotkey.application.CountMinSketch;
+import com.example.yumi.common.hotkey.application.SpaceSaving;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeySketchTest {
+
+    /**
+     * Count-Min Sketch 추정치 테스트
+     *
+     * 검증:
+     * - 추정치는 실제 빈도보다 작지 않음
+     * - 충분한 width에서는 충돌이 적어 실제 빈도와 거의 같음
+     */
+    @Test
+    void countMinSketchNeverUnderestimates() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+
+        // When: key-i를 i번씩 기록
+        for (int i = 1; i <= 200; i++) {
+            sketch.add("stock:" + i, i);
+        }
+
+        // Then
+        for (int i = 1; i <= 200; i++) {
+            assertThat(sketch.estimate("stock:" + i)).isGreaterThanOrEqualTo(i);
+        }
+        assertThat(sketch.estimate("stock:200")).isLessThan(200 + 50);
+    }
+
+    /**
+     * Space-Saving 상위 key 추적 테스트
+     *
+     * 테스트 시나리오:
+     * 1. 후보 용량 5
+     * 2. 핫 상품 2개(stock:1, stock:2)는 각 1000건, 나머지 100개 상품은 각 1건
+     *
+     * 검증:
+     * - 용량보다 많은 key가 들어와도 핫 상품은 후보에서 밀려나지 않음
+     */
+    @Test
+    void spaceSavingKeepsHeavyHitters() {
+        // Given
+        SpaceSaving spaceSaving = new SpaceSaving(5);
+
+        // When
+        for (int round = 0; round < 1000; round++) {
+            spaceSaving.offer("stock:1", 1);
+            spaceSaving.offer("stock:2", 1);
+            if (round < 100) {
+                spaceSaving.offer("stock:" + (round + 100), 1);
+            }
+        }
+
+        // Then
+        assertThat(spaceSaving.candidates()).contains("stock:1", "stock:2").hasSizeLessThanOrEqualTo(5);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.yumi.metrics;
+
+import com.example.yumi.infra.message.application.metrics.StockQueueMetrics;
+import com.example.yumi.infra.message.dto.SqsMessageEnvelope;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockQueueMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockQueueMetrics stockQueueMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stockQueueMetrics = new StockQueueMetrics(meterRegistry);
+        ReflectionTestUtils.setField(stockQueueMetrics, "maxTrackedGroups", 2);
+    }
+
+    /**
+     * 헤더 파싱 및 성공 처리 테스트
+     *
+     * 테스트 시나리오:
+     * 1. SentTimestamp, ApproximateReceiveCount는 SQS처럼 문자열, ProducedAt은 숫자 헤더
+     * 2. 두 번째 수신(재전송) 메시지를 성공 처리
+     *
+     * 검증:
+     * - queue/end-to-end 지연이 그룹 timer와 전체 집계 timer에 각각 1건 기록
+     * - 수신 횟수 2 기록, 재전송 1건
+     * - 처리 중 수는 start 후 1, stop 후 0
+     */
+    @Test
+    void recordsLagAndRedeliveryFromHeaders() {
+        // Given
+        long now = System.currentTimeMillis();
+        Map<String, Object> headers = headers("1");
+        headers.put(SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP, String.valueOf(now - 100));
+        headers.put(SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT, "2");
+        headers.put(SqsMessageEnvelope.PRODUCED_AT_HEADER, now - 200);
+
+        // When
+        StockQueueMetrics.Sample sample = stockQueueMetrics.start(headers);
+        double inFlightDuringProcessing = meterRegistry.get("stock.queue.in-flight").tag("group", "1").gauge().value();
+        stockQueueMetrics.stop(sample, true);
+
+        // Then
+        assertThat(inFlightDuringProcessing).isEqualTo(1);
+        assertThat(meterRegistry.get("stock.queue.in-flight").tag("group", "1").gauge().value()).isZero();
+        assertThat(meterRegistry.get("stock.queue.lag").tags("group", "1", "type", "queue").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("stock.queue.lag").tags("group", "1", "type", "end-to-end").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("stock.queue.lag.all").tag("type", "end-to-end").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("stock.queue.receive-count").tag("group", "1").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("stock.queue.redelivered").tag("group", "1").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * 잘못된 헤더 및 실패 처리 테스트
+     *
+     * 테스트 시나리오:
+     * 1. SentTimestamp가 숫자가 아니고, 처음 수신한 메시지
+     * 2. 재고 차감 실패
+     *
+     * 검증:
+     * - queue 지연은 기록하지 않음, 재전송으로 집계하지 않음
+     * - end-to-end 지연은 기록하지 않고 실패 수만 증가
+     */
+    @Test
+    void skipsInvalidHeadersAndFailedApplies() {
+        // Given
+        Map<String, Object> headers = headers("1");
+        headers.put(SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP, "not-a-number");
+        headers.put(SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT, "1");
+        headers.put(SqsMessageEnvelope.PRODUCED_AT_HEADER, System.currentTimeMillis());
+
+        // When
+        StockQueueMetrics.Sample sample = stockQueueMetrics.start(headers);
+        stockQueueMetrics.stop(sample, false);
+
+        // Then
+        assertThat(meterRegistry.find("stock.queue.lag").timers()).isEmpty();
+        assertThat(meterRegistry.find("stock.queue.redelivered").counter()).isNull();
+        assertThat(meterRegistry.get("stock.queue.failed").tag("group", "1").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * 그룹 태그 상한 테스트
+     *
+     * 테스트 시나리오:
+     * 1. max-tracked-groups 2
+     * 2. 그룹 1, 2, 3 순서로 수신, 그룹 헤더가 없는 메시지 수신
+     *
+     * 검증:
+     * - 그룹 1, 2는 자체 태그, 그룹 3은 other, 그룹 헤더가 없으면 unknown
+     * - 이미 추적 중인 그룹은 상한 이후에도 자체 태그 유지
+     */
+    @Test
+    void capsGroupTags() {
+        // When
+        StockQueueMetrics.Sample first = stockQueueMetrics.start(headers("1"));
+        StockQueueMetrics.Sample second = stockQueueMetrics.start(headers("2"));
+        StockQueueMetrics.Sample third = stockQueueMetrics.start(headers("3"));
+        StockQueueMetrics.Sample noGroup = stockQueueMetrics.start(new HashMap<>());
+        StockQueueMetrics.Sample firstAgain = stockQueueMetrics.start(headers("1"));
+
+        // Then
+        assertThat(first.group()).isEqualTo("1");
+        assertThat(second.group()).isEqualTo("2");
+        assertThat(third.group()).isEqualTo("other");
+        assertThat(noGroup.group()).isEqualTo("unknown");
+        assertThat(firstAgain.group()).isEqualTo("1");
+        assertThat(meterRegistry.get("stock.queue.in-flight").tag("group", "1").gauge().value()).isEqualTo(2);
+    }
+
+    private Map<String, Object> headers(String group) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, group);
+        return headers;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.yumi.redis;
+
+import com.example.yumi.common.redis.application.LuaFactory;
+import com.example.yumi.common.redis.application.SingleFlightLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SingleFlightLoaderTest {
+
+    private static final String KEY = "stock:1";
+    private static final String LOCK_KEY = KEY + ":load-lock";
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, Object> valueOperations;
+    private SingleFlightLoader singleFlightLoader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        singleFlightLoader = new SingleFlightLoader(redisTemplate, new LuaFactory());
+        ReflectionTestUtils.setField(singleFlightLoader, "lockEnabled", true);
+        ReflectionTestUtils.setField(singleFlightLoader, "lockTtlMs", 3000L);
+        ReflectionTestUtils.setField(singleFlightLoader, "waitTimeoutMs", 200L);
+        ReflectionTestUtils.setField(singleFlightLoader, "pollIntervalMs", 10L);
+    }
+
+    /**
+     * 동시 로드 요청 병합 테스트
+     *
+     * 테스트 시나리오:
+     * 1. Redis에 key가 없는 상태에서 20개 쓰레드가 동시에 loadIfAbsent 호출
+     * 2. 원본 조회(Supplier)는 50ms 걸림
+     *
+     * 검증:
+     * - Supplier는 정확히 1번만 호출됨
+     * - 모든 호출이 예외 없이 반환됨
+     */
+    @Test
+    void concurrentCallersInvokeSupplierOnce() throws Exception {
+        // Given
+        AtomicBoolean stored = new AtomicBoolean();
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> KEY.equals(invocation.getArgument(0)) && stored.get());
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(KEY), any())).thenAnswer(invocation -> stored.compareAndSet(false, true));
+
+        int threadCount = 20;
+        AtomicInteger supplierCalls = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                singleFlightLoader.loadIfAbsent(KEY, () -> {
+                    supplierCalls.incrementAndGet();
+                    sleep(50);
+                    return 100;
+                });
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(supplierCalls.get()).isEqualTo(1);
+        assertThat(stored.get()).isTrue();
+    }
+
+    /**
+     * 다른 노드 로드 대기 시간 초과 테스트
+     *
+     * 테스트 시나리오:
+     * 1. 다른 노드가 로드 락을 계속 보유하고 값은 저장되지 않음
+     * 2. wait-timeout-ms 200ms
+     *
+     * 검증:
+     * - 대기 시간 초과 예외 발생
+     * - Supplier는 호출되지 않음
+     */
+    @Test
+    void waitTimesOutWhileAnotherNodeHoldsLock() {
+        // Given
+        when(redisTemplate.hasKey(KEY)).thenReturn(false);
+        when(redisTemplate.hasKey(LOCK_KEY)).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger supplierCalls = new AtomicInteger();
+
+        // When & Then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> singleFlightLoader.loadIfAbsent(KEY, supplierCalls::incrementAndGet))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간을 초과");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(200).isLessThan(2000);
+        assertThat(supplierCalls.get()).isZero();
+    }
+
+    /**
+     * 다른 노드의 로드 실패 시 재시도 테스트
+     *
+     * 테스트 시나리오:
+     * 1. 첫 락 획득은 다른 노드에 밀려 실패
+     * 2. 다른 노드가 값을 저장하지 못하고 락을 해제
+     *
+     * 검증:
+     * - 대기 시간까지 기다리지 않고 다시 락을 잡아 직접 로드함
+     */
+    @Test
+    void retriesLockWhenHolderReleasedWithoutValue() {
+        // Given
+        AtomicBoolean stored = new AtomicBoolean();
+        when(redisTemplate.hasKey(KEY)).thenAnswer(invocation -> stored.get());
+        when(redisTemplate.hasKey(LOCK_KEY)).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false, true);
+        when(valueOperations.setIfAbsent(eq(KEY), any())).thenAnswer(invocation -> stored.compareAndSet(false, true));
+        AtomicInteger supplierCalls = new AtomicInteger();
+
+        // When
+        long startedAt = System.nanoTime();
+        singleFlightLoader.loadIfAbsent(KEY, supplierCalls::incrementAndGet);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(supplierCalls.get()).isEqualTo(1);
+        assertThat(stored.get()).isTrue();
+        assertThat(elapsedMs).isLessThan(200);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
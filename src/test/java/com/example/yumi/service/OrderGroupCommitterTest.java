@@ -0,0 +1,180 @@
+package com.example.yumi.service;
+
+import com.example.yumi.domains.order.dto.OrderRequest;
+import com.example.yumi.domains.order.entity.Order;
+import com.example.yumi.domains.order.repository.OrderRepository;
+import com.example.yumi.domains.order.service.OrderGroupCommitService;
+import com.example.yumi.domains.order.service.OrderGroupCommitter;
+import com.example.yumi.domains.order.service.StockService;
+import com.example.yumi.domains.order.service.StockServiceWithLua;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderGroupCommitterTest {
+
+    private OrderRepository orderRepository;
+    private OrderGroupCommitter orderGroupCommitter;
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong orderNoSequence = new AtomicLong();
+    private volatile long saveDelayMs;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            Thread.sleep(saveDelayMs);
+            orders.forEach(order -> ReflectionTestUtils.setField(order, "orderNo", orderNoSequence.incrementAndGet()));
+            batchSizes.add(orders.size());
+            return orders;
+        });
+
+        orderGroupCommitter = new OrderGroupCommitter(orderRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderGroupCommitter.stop();
+    }
+
+    /**
+     * 배치 크기 도달 시 flush 테스트
+     *
+     * 테스트 시나리오:
+     * 1. batch-size 3, flush-interval-ms 5000
+     * 2. 3개 주문을 동시에 커밋 요청
+     *
+     * 검증:
+     * - flush 간격을 기다리지 않고 한 번의 saveAll로 3건 저장
+     */
+    @Test
+    void flushesWhenBatchIsFull() throws Exception {
+        // Given
+        start(3, 5000, 2000);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // When
+        List<Future<Order>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(executor.submit(() -> orderGroupCommitter.commit(new Order(1L, 1L, 1))));
+        }
+        List<Order> orders = new ArrayList<>();
+        for (Future<Order> future : futures) {
+            orders.add(future.get(2, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(orders).extracting(Order::getOrderNo).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    /**
+     * flush 간격 도달 시 flush 테스트
+     *
+     * 테스트 시나리오:
+     * 1. batch-size 100, flush-interval-ms 100
+     * 2. 주문 1건 커밋 요청
+     *
+     * 검증:
+     * - 배치가 차지 않아도 flush 간격 뒤에 1건 저장
+     */
+    @Test
+    void flushesWhenIntervalElapses() {
+        // Given
+        start(100, 100, 2000);
+
+        // When
+        long startedAt = System.nanoTime();
+        Order order = orderGroupCommitter.commit(new Order(1L, 1L, 1));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(order.getOrderNo()).isEqualTo(1L);
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(100);
+    }
+
+    /**
+     * 커밋 대기 시간 초과 테스트
+     *
+     * 테스트 시나리오:
+     * 1. commit-timeout-ms 100, saveAll이 300ms 걸림
+     * 2. 요청 쓰레드는 커밋 완료 전에 대기를 포기
+     *
+     * 검증:
+     * - 요청 쓰레드는 대기 시간 초과 예외
+     * - 커밋이 끝난 뒤 writer가 포기된 주문을 삭제
+     */
+    @Test
+    void deletesOrderAbandonedDuringCommit() {
+        // Given
+        saveDelayMs = 300;
+        start(1, 1, 100);
+
+        // When & Then
+        assertThatThrownBy(() -> orderGroupCommitter.commit(new Order(1L, 1L, 1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간을 초과");
+        verify(orderRepository, timeout(2000)).deleteAllById(List.of(1L));
+    }
+
+    /**
+     * 재고 차감 실패 시 보상 삭제 테스트
+     *
+     * 테스트 시나리오:
+     * 1. 주문은 그룹 커밋으로 저장됨
+     * 2. 이후 Lua 재고 차감이 실패
+     *
+     * 검증:
+     * - 재고 차감 예외가 그대로 전달됨
+     * - 저장된 주문을 삭제
+     */
+    @Test
+    void deletesCommittedOrderWhenStockReductionFails() {
+        // Given
+        start(100, 1, 2000);
+        StockServiceWithLua stockServiceWithLua = mock(StockServiceWithLua.class);
+        doThrow(new RuntimeException("재고가 부족합니다")).when(stockServiceWithLua).reduceStock(any());
+        OrderGroupCommitService orderGroupCommitService = new OrderGroupCommitService(
+                orderGroupCommitter, orderRepository, mock(StockService.class), stockServiceWithLua);
+
+        // When & Then
+        assertThatThrownBy(() -> orderGroupCommitService.orderWithLua(new OrderRequest(1L, 1L, 1)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("재고가 부족합니다");
+        verify(orderRepository).deleteById(1L);
+    }
+
+    private void start(int batchSize, long flushIntervalMs, long commitTimeoutMs) {
+        ReflectionTestUtils.setField(orderGroupCommitter, "enabled", true);
+        ReflectionTestUtils.setField(orderGroupCommitter, "bufferSize", 100);
+        ReflectionTestUtils.setField(orderGroupCommitter, "batchSize", batchSize);
+        ReflectionTestUtils.setField(orderGroupCommitter, "flushIntervalMs", flushIntervalMs);
+        ReflectionTestUtils.setField(orderGroupCommitter, "commitTimeoutMs", commitTimeoutMs);
+        orderGroupCommitter.start();
+    }
+}
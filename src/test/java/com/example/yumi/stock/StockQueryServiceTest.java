@@ -0,0 +1,63 @@
+package com.example.yumi.stock;
+
+import com.example.yumi.domains.order.dto.StockResponse;
+import com.example.yumi.domains.order.entity.Stock;
+import com.example.yumi.domains.order.repository.StockRepository;
+import com.example.yumi.domains.order.service.StockQueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockQueryServiceTest {
+
+    /**
+     * 없는 상품 캐시 테스트
+     *
+     * 테스트 시나리오:
+     * 1. 상품 1은 Redis에 재고 5, 상품 2는 DB에 재고 20, 상품 3은 어디에도 없음
+     * 2. 같은 상품 목록을 TTL 안에서 두 번 조회
+     *
+     * 검증:
+     * - 상품 3은 결과에서 제외
+     * - 두 번째 조회는 Redis/DB를 다시 조회하지 않음 (없는 상품 포함)
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void cachesAbsentProducts() {
+        // Given
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        StockRepository stockRepository = mock(StockRepository.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> "stock:1".equals(key) ? (Object) 5 : null).collect(Collectors.toList());
+        });
+        when(stockRepository.findByProductNoIn(anyCollection())).thenReturn(List.of(new Stock(2L, 20)));
+
+        StockQueryService stockQueryService = new StockQueryService(redisTemplate, stockRepository,
+                new SimpleMeterRegistry(), 60_000, 100, 10);
+
+        // When
+        List<StockResponse> first = stockQueryService.getStocks(List.of(1L, 2L, 3L));
+        List<StockResponse> second = stockQueryService.getStocks(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(first).extracting(StockResponse::getProductNo).containsExactly(1L, 2L);
+        assertThat(second).extracting(StockResponse::getProductNo).containsExactly(1L, 2L);
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verify(stockRepository, times(1)).findByProductNoIn(anyCollection());
+    }
+}
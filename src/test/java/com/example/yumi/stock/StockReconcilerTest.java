@@ -0,0 +1,251 @@
+package com.example.yumi.stock;
+
+import com.example.yumi.common.redis.application.LuaFactory;
+import com.example.yumi.domains.order.dto.ReconcilePolicy;
+import com.example.yumi.domains.order.dto.StockReconciliationReport;
+import com.example.yumi.domains.order.entity.Stock;
+import com.example.yumi.domains.order.repository.StockRepository;
+import com.example.yumi.domains.order.service.StockReconciler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockReconcilerTest {
+
+    private static final String LEASE_KEY = "reconcile:stock:lease";
+
+    private StockRepository stockRepository;
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, Object> valueOperations;
+    private Cursor<String> cursor;
+    private StockReconciler stockReconciler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stockRepository = mock(StockRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        cursor = mock(Cursor.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        stockReconciler = new StockReconciler(stockRepository, redisTemplate, new LuaFactory(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(stockReconciler, "enabled", true);
+        ReflectionTestUtils.setField(stockReconciler, "chunkSize", 200);
+        ReflectionTestUtils.setField(stockReconciler, "pauseMs", 0L);
+        ReflectionTestUtils.setField(stockReconciler, "leaseTtlMs", 60_000L);
+    }
+
+    /**
+     * REPORT_ONLY 정책 테스트
+     *
+     * 테스트 시나리오:
+     * 1. DB 재고 100, Redis 재고 90
+     *
+     * 검증:
+     * - 불일치 1건으로 보고
+     * - Redis/DB 모두 변경하지 않음
+     */
+    @Test
+    void reportOnlyDoesNotFix() {
+        // Given
+        ReflectionTestUtils.setField(stockReconciler, "policy", ReconcilePolicy.REPORT_ONLY);
+        Stock stock = givenStock(100, 90);
+
+        // When
+        stockReconciler.reconcile();
+
+        // Then
+        StockReconciliationReport report = stockReconciler.getLastReport().orElseThrow();
+        assertThat(report.getDrifted()).isEqualTo(1);
+        assertThat(report.getFixed()).isZero();
+        assertThat(stock.getStockQuantity()).isEqualTo(100);
+        verify(stockRepository, never()).findByProductNoWithPessimisticLock(anyLong());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of("stock:1")), any());
+    }
+
+    /**
+     * MIN_WINS 정책 - Redis가 더 큰 경우
+     *
+     * 테스트 시나리오:
+     * 1. DB 재고 90 (SQS 경로로 10개 판매), Redis 재고 100
+     *
+     * 검증:
+     * - Redis를 DB 값(90)으로 낮추는 Lua 스크립트 실행
+     * - DB는 변경하지 않음
+     */
+    @Test
+    void minWinsLowersRedisWhenRedisIsHigher() {
+        // Given
+        ReflectionTestUtils.setField(stockReconciler, "policy", ReconcilePolicy.MIN_WINS);
+        Stock stock = givenStock(90, 100);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("stock:1")), any())).thenReturn(1L);
+
+        // When
+        stockReconciler.reconcile();
+
+        // Then
+        assertThat(stockReconciler.getLastReport().orElseThrow().getFixed()).isEqualTo(1);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("stock:1")), eq(90));
+        assertThat(stock.getStockQuantity()).isEqualTo(90);
+        verify(stockRepository, never()).findByProductNoWithPessimisticLock(anyLong());
+    }
+
+    /**
+     * MIN_WINS 정책 - DB가 더 큰 경우
+     *
+     * 테스트 시나리오:
+     * 1. DB 재고 100, Redis 재고 90 (Lua 경로로 10개 판매)
+     * 2. row 락을 잡은 뒤 다시 읽은 Redis 재고는 85 (비교 이후 5개 더 판매)
+     *
+     * 검증:
+     * - DB 재고를 다시 읽은 Redis 값(85)으로 낮춤
+     * - Redis는 변경하지 않음
+     */
+    @Test
+    void minWinsLowersDbWhenDbIsHigher() {
+        // Given
+        ReflectionTestUtils.setField(stockReconciler, "policy", ReconcilePolicy.MIN_WINS);
+        Stock stock = givenStock(100, 90);
+        when(stockRepository.findByProductNoWithPessimisticLock(1L)).thenReturn(Optional.of(stock));
+        when(valueOperations.get("stock:1")).thenReturn(85);
+
+        // When
+        stockReconciler.reconcile();
+
+        // Then
+        assertThat(stockReconciler.getLastReport().orElseThrow().getFixed()).isEqualTo(1);
+        assertThat(stock.getStockQuantity()).isEqualTo(85);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of("stock:1")), any());
+    }
+
+    /**
+     * MIN_WINS 정책 - 재고를 늘리지 않음
+     *
+     * 테스트 시나리오:
+     * 1. DB 재고 100, Redis 재고 90
+     * 2. row 락을 잡은 뒤 다시 읽은 Redis 재고는 120 (다른 작업이 Redis를 다시 채움)
+     *
+     * 검증:
+     * - DB 재고를 늘리지 않음
+     */
+    @Test
+    void minWinsNeverRaisesDb() {
+        // Given
+        ReflectionTestUtils.setField(stockReconciler, "policy", ReconcilePolicy.MIN_WINS);
+        Stock stock = givenStock(100, 90);
+        when(stockRepository.findByProductNoWithPessimisticLock(1L)).thenReturn(Optional.of(stock));
+        when(valueOperations.get("stock:1")).thenReturn(120);
+
+        // When
+        stockReconciler.reconcile();
+
+        // Then
+        assertThat(stockReconciler.getLastReport().orElseThrow().getFixed()).isZero();
+        assertThat(stock.getStockQuantity()).isEqualTo(100);
+    }
+
+    /**
+     * MIN_WINS 정책 - DB에 없는 Redis key
+     *
+     * 검증:
+     * - DB에 재고가 없는 상품의 Redis 카운터를 삭제
+     */
+    @Test
+    void minWinsDeletesOrphanKeys() {
+        // Given
+        ReflectionTestUtils.setField(stockReconciler, "policy", ReconcilePolicy.MIN_WINS);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("stock:2");
+        when(stockRepository.findByProductNoIn(anyCollection())).thenReturn(List.of());
+        when(redisTemplate.delete(anyList())).thenReturn(1L);
+
+        // When
+        stockReconciler.reconcile();
+
+        // Then
+        StockReconciliationReport report = stockReconciler.getLastReport().orElseThrow();
+        assertThat(report.getOrphaned()).isEqualTo(1);
+        assertThat(report.getFixed()).isEqualTo(1);
+        verify(redisTemplate).delete(List.of("stock:2"));
+    }
+
+    /**
+     * 노드 간 점검 리스 테스트
+     *
+     * 테스트 시나리오:
+     * 1. 다른 노드가 리스를 보유 중
+     *
+     * 검증:
+     * - DB/Redis를 순회하지 않고 건너뜀
+     * - 보고서를 만들지 않음
+     */
+    @Test
+    void skipsWhenAnotherNodeHoldsLease() {
+        // Given
+        ReflectionTestUtils.setField(stockReconciler, "policy", ReconcilePolicy.MIN_WINS);
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        stockReconciler.reconcile();
+
+        // Then
+        assertThat(stockReconciler.getLastReport()).isEmpty();
+        verify(stockRepository, never()).findByProductNoGreaterThanOrderByProductNoAsc(anyLong(), any(Limit.class));
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+    }
+
+    /**
+     * 점검 후 리스 해제 테스트
+     *
+     * 검증:
+     * - 점검이 끝나면 unlock 스크립트로 본인 리스를 해제
+     */
+    @Test
+    void releasesLeaseAfterPass() {
+        // Given
+        ReflectionTestUtils.setField(stockReconciler, "policy", ReconcilePolicy.REPORT_ONLY);
+
+        // When
+        stockReconciler.reconcile();
+
+        // Then
+        assertThat(stockReconciler.getLastReport()).isPresent();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LEASE_KEY)), anyString());
+    }
+
+    private Stock givenStock(int dbQuantity, int redisQuantity) {
+        Stock stock = new Stock(1L, dbQuantity);
+        when(stockRepository.findByProductNoGreaterThanOrderByProductNoAsc(anyLong(), any(Limit.class))).thenReturn(List.of(stock));
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(redisQuantity));
+        return stock;
+    }
+}